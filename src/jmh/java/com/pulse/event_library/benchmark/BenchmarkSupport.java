@@ -0,0 +1,211 @@
+package com.pulse.event_library.benchmark;
+
+import com.pulse.event_library.codec.JacksonPayloadCodec;
+import com.pulse.event_library.codec.OutboxPayloadCodecs;
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.ProducerProfileRegistry;
+import com.pulse.event_library.retry.AsyncRetryExecutor;
+import com.pulse.event_library.retry.RetryPolicy;
+import com.pulse.event_library.service.KafkaProducerService;
+import com.pulse.event_library.service.OutboxKafkaService;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.tracing.OutboxTracing;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 스텁과 객체 생성 메서드입니다.
+ * Kafka / DB 없이 라이브러리의 코드 경로만 측정하도록 브로커 응답과 Outbox 테이블을 메모리에서 흉내 냅니다.
+ */
+final class BenchmarkSupport {
+
+    static final String TOPIC = "benchmark-outbox";
+
+    private BenchmarkSupport() {
+    }
+
+    static SampleEvent sampleEvent(long id) {
+        return new SampleEvent(id, "ORDER_CREATED", "order-" + (id % 1024),
+                new OrderPayload(id, "order-" + (id % 1024), 3, 129_000L, List.of("SKU-1001", "SKU-2002", "SKU-3003")));
+    }
+
+    /**
+     * 항상 샘플링하고 내보내지 않는 OpenTelemetry SDK (Span 생성과 헤더 주입 비용만 측정)
+     */
+    static OpenTelemetry openTelemetry() {
+        return OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().setSampler(Sampler.alwaysOn()).build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+    }
+
+    static OutboxPayloadCodecs payloadCodecs(String contentType, boolean compress) {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        return new OutboxPayloadCodecs(
+                List.of(new JacksonPayloadCodec(JacksonPayloadCodec.JSON, objectMapper),
+                        new JacksonPayloadCodec(JacksonPayloadCodec.SMILE, objectMapper.copyWith(new SmileFactory()))),
+                contentType, compress, 256, 6, 64, 1024 * 1024);
+    }
+
+    static OutboxMetrics metrics() {
+        return new OutboxMetrics(new SimpleMeterRegistry(), false);
+    }
+
+    static KafkaProducerService kafkaProducerService(OutboxMetrics metrics, OutboxTracing tracing) {
+        KafkaTemplate<String, byte[]> template = new KafkaTemplate<>(new MockProducerFactory<>(DiscardingProducer::new));
+        AsyncRetryExecutor retryExecutor = new AsyncRetryExecutor(
+                new RetryPolicy(3, Duration.ofMillis(200), 2.0, Duration.ofSeconds(10), 0.2),
+                Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon(true).factory()));
+        return new KafkaProducerService(template, new ProducerProfileRegistry(template, Map.of(), Map.of()),
+                retryExecutor, metrics, tracing);
+    }
+
+    static <T> ObjectProvider<T> provider(Class<T> type, T bean) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (bean != null) {
+            beanFactory.addBean(type.getName(), bean);
+        }
+        return beanFactory.getBeanProvider(type);
+    }
+
+    public record OrderPayload(long orderId, String customerId, int quantity, long amount, List<String> skus) {
+    }
+
+    public record SampleEvent(Long id, String eventType, String partitionKey, OrderPayload payload) implements OutboxEvent {
+
+        @Override
+        public String getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getPartitionKey() {
+            return partitionKey;
+        }
+
+        @Override
+        public Object getPayload() {
+            return payload;
+        }
+
+    }
+
+    /**
+     * 메모리에서 동작하는 Outbox 서비스 (호출 횟수만 기록)
+     */
+    static final class InMemoryOutboxService implements OutboxService, OutboxKafkaService {
+
+        final LongAdder saved = new LongAdder();
+        final LongAdder processed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder statusUpdates = new LongAdder();
+
+        @Override
+        public void saveOutboxEvent(OutboxEvent event) {
+            saved.increment();
+        }
+
+        @Override
+        public void saveOutboxEvents(List<OutboxEvent> events) {
+            saved.add(events.size());
+        }
+
+        @Override
+        public void markOutboxEventProcessed(OutboxEvent event) {
+            processed.increment();
+        }
+
+        @Override
+        public void markOutboxEventSuccess(OutboxEvent event) {
+            processed.increment();
+        }
+
+        @Override
+        public void markOutboxEventFailed(OutboxEvent event) {
+            failed.increment();
+        }
+
+        @Override
+        public String getKafkaTopic(OutboxEvent event) {
+            return TOPIC;
+        }
+
+        @Override
+        public Instant findOldestUnpublishedCreatedAt() {
+            return null;
+        }
+
+        @Override
+        public void updateOutboxStatus() {
+            statusUpdates.increment();
+        }
+
+        @Override
+        public void updateOutboxStatus(Collection<Long> ids) {
+            statusUpdates.add(ids.size());
+        }
+
+    }
+
+    /**
+     * 전송 즉시 성공으로 응답하고 레코드를 보관하지 않는 프로듀서
+     * (MockProducer는 전송한 레코드를 모두 보관하므로 그대로 사용하면 측정 중 메모리가 계속 늘어납니다.)
+     */
+    static final class DiscardingProducer extends MockProducer<String, byte[]> {
+
+        DiscardingProducer() {
+            super(true, new StringSerializer(), new ByteArraySerializer());
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<String, byte[]> record, Callback callback) {
+            int headerBytes = 0;
+            for (Header header : record.headers()) {
+                headerBytes += header.key().length() + header.value().length;
+            }
+            RecordMetadata metadata = new RecordMetadata(new TopicPartition(record.topic(), 0), 0L, 0,
+                    System.currentTimeMillis(), 0, record.value().length + headerBytes);
+            if (callback != null) {
+                callback.onCompletion(metadata, null);
+            }
+            return CompletableFuture.completedFuture(metadata);
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.pulse.event_library.benchmark;
+
+import com.pulse.event_library.dispatcher.OutboxDispatcher;
+import com.pulse.event_library.listener.OutboxEventListener;
+import com.pulse.event_library.transaction.OutboxSaveBatcher;
+import com.pulse.event_library.tracing.OutboxTracing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋 직전 Outbox 테이블 저장 경로(OutboxEventListener.handleOutboxEvent)의 비용을 측정합니다.
+ * 저장은 메모리 스텁으로 대체하므로 저장 Span과 지표 기록에 드는 비용을 트레이싱 모드별로 비교할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+public class EventListenerBenchmark {
+
+    @Param({"FULL", "LIGHT", "OFF"})
+    public OutboxTracing.Mode tracingMode;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private OutboxEventListener listener;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        listener = new OutboxEventListener(new BenchmarkSupport.InMemoryOutboxService(), null,
+                BenchmarkSupport.provider(OutboxDispatcher.class, null),
+                BenchmarkSupport.provider(OutboxSaveBatcher.class, null),
+                BenchmarkSupport.metrics(),
+                new OutboxTracing(BenchmarkSupport.openTelemetry(), tracingMode, 1.0));
+    }
+
+    @Benchmark
+    public void handleOutboxEvent() {
+        listener.handleOutboxEvent(BenchmarkSupport.sampleEvent(ids.incrementAndGet()));
+    }
+
+}
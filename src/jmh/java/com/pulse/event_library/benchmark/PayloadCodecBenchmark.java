@@ -0,0 +1,59 @@
+package com.pulse.event_library.benchmark;
+
+import com.pulse.event_library.codec.EncodedPayload;
+import com.pulse.event_library.codec.JacksonPayloadCodec;
+import com.pulse.event_library.codec.OutboxPayloadCodecs;
+import com.pulse.event_library.event.OutboxHeaders;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 본문 코덱(JSON / Smile)과 deflate 압축의 인코딩 / 디코딩 비용을 측정합니다.
+ * (압축 임계값은 256 byte로 설정하여 예제 본문이 압축 대상이 되도록 합니다.)
+ */
+@State(Scope.Benchmark)
+public class PayloadCodecBenchmark {
+
+    @Param({JacksonPayloadCodec.JSON, JacksonPayloadCodec.SMILE})
+    public String contentType;
+
+    @Param({"false", "true"})
+    public boolean compress;
+
+    private OutboxPayloadCodecs codecs;
+    private BenchmarkSupport.OrderPayload payload;
+    private byte[] encoded;
+    private RecordHeaders headers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codecs = BenchmarkSupport.payloadCodecs(contentType, compress);
+        payload = (BenchmarkSupport.OrderPayload) BenchmarkSupport.sampleEvent(42L).getPayload();
+
+        EncodedPayload message = codecs.encode(payload);
+        encoded = message.data();
+        headers = new RecordHeaders();
+        headers.add(OutboxHeaders.CONTENT_TYPE, message.contentType().getBytes(StandardCharsets.UTF_8));
+        if (message.contentEncoding() != null) {
+            headers.add(OutboxHeaders.CONTENT_ENCODING, message.contentEncoding().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public EncodedPayload encode() {
+        return codecs.encode(payload);
+    }
+
+    @Benchmark
+    public BenchmarkSupport.OrderPayload decode() {
+        return codecs.decode(encoded, headers, BenchmarkSupport.OrderPayload.class);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.pulse.event_library.benchmark;
+
+import com.pulse.event_library.codec.EncodedPayload;
+import com.pulse.event_library.codec.JacksonPayloadCodec;
+import com.pulse.event_library.config.OutboxPayloadProperties;
+import com.pulse.event_library.config.OutboxProducerProperties;
+import com.pulse.event_library.journal.OutboxSpillJournal;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.OutboxCircuitBreaker;
+import com.pulse.event_library.producer.OutboxTransactionalPublisher;
+import com.pulse.event_library.service.KafkaProducerService;
+import com.pulse.event_library.routing.OutboxTopicRouter;
+import com.pulse.event_library.service.OutboxPublishService;
+import com.pulse.event_library.status.OutboxStatusBuffer;
+import com.pulse.event_library.tracing.OutboxTracing;
+import io.opentelemetry.context.Context;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋 이후 Kafka 전송 경로의 비용을 측정합니다.
+ * 브로커 응답은 DiscardingProducer가 즉시 돌려주므로 네트워크를 제외한 라이브러리의 비용(인코딩, 헤더, Span, 지표, 상태 변경)만 측정합니다.
+ *
+ * - send: 레코드 생성 + 헤더 + 트레이스 주입 + 전송 타이머 (KafkaProducerService.send)
+ * - publishIdMode / publishBodyMode: 발행 Span + 인코딩 + 재시도 실행기 + 상태 변경까지 (OutboxPublishService.publish)
+ */
+@State(Scope.Benchmark)
+public class ProducerPathBenchmark {
+
+    @Param({"FULL", "LIGHT", "OFF"})
+    public OutboxTracing.Mode tracingMode;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private KafkaProducerService kafkaProducerService;
+    private OutboxPublishService idPublishService;
+    private OutboxPublishService bodyPublishService;
+    private EncodedPayload payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OutboxTracing tracing = new OutboxTracing(BenchmarkSupport.openTelemetry(), tracingMode, 1.0);
+        OutboxMetrics metrics = BenchmarkSupport.metrics();
+        BenchmarkSupport.InMemoryOutboxService outboxService = new BenchmarkSupport.InMemoryOutboxService();
+
+        kafkaProducerService = BenchmarkSupport.kafkaProducerService(metrics, tracing);
+        idPublishService = publishService(outboxService, metrics, tracing, OutboxPayloadProperties.Mode.ID);
+        bodyPublishService = publishService(outboxService, metrics, tracing, OutboxPayloadProperties.Mode.BODY);
+        payload = EncodedPayload.ofId(1L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        idPublishService.destroy();
+        bodyPublishService.destroy();
+    }
+
+    @Benchmark
+    public RecordMetadata send() {
+        return kafkaProducerService.send(BenchmarkSupport.sampleEvent(ids.incrementAndGet()), BenchmarkSupport.TOPIC, payload, Context.root())
+                .join()
+                .getRecordMetadata();
+    }
+
+    @Benchmark
+    public Void publishIdMode() {
+        return idPublishService.publish(BenchmarkSupport.sampleEvent(ids.incrementAndGet())).join();
+    }
+
+    @Benchmark
+    public Void publishBodyMode() {
+        return bodyPublishService.publish(BenchmarkSupport.sampleEvent(ids.incrementAndGet())).join();
+    }
+
+    private OutboxPublishService publishService(BenchmarkSupport.InMemoryOutboxService outboxService,
+                                                OutboxMetrics metrics,
+                                                OutboxTracing tracing,
+                                                OutboxPayloadProperties.Mode mode) {
+        OutboxPayloadProperties properties = new OutboxPayloadProperties();
+        properties.setMode(mode);
+        OutboxTopicRouter topicRouter = new OutboxTopicRouter(Map.of(), outboxService, true, new StandardEnvironment(), null);
+        return new OutboxPublishService(outboxService, topicRouter, kafkaProducerService,
+                BenchmarkSupport.payloadCodecs(JacksonPayloadCodec.JSON, false), properties, new OutboxProducerProperties(), metrics, tracing,
+                BenchmarkSupport.provider(OutboxCircuitBreaker.class, null),
+                BenchmarkSupport.provider(OutboxSpillJournal.class, null),
+                BenchmarkSupport.provider(OutboxTransactionalPublisher.class, null),
+                BenchmarkSupport.provider(OutboxStatusBuffer.class, null));
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.pulse.event_library.benchmark;
+
+import com.pulse.event_library.config.OutboxConsumerProperties;
+import com.pulse.event_library.consumer.KeyOrderedExecutor;
+import com.pulse.event_library.consumer.OutboxRetryTopicResolver;
+import com.pulse.event_library.dedup.OutboxDeduplicator;
+import com.pulse.event_library.event.OutboxHeaders;
+import com.pulse.event_library.listener.OutboxStatusChangeListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상태 변경 리스너의 레코드당 처리 비용을 측정합니다.
+ *
+ * - listenBatch: 500건 배치에서 outbox id 추출 + 중복 확인 + 일괄 상태 업데이트 (레코드당 시간으로 환산)
+ * - listen: 레코드 단위 처리
+ *
+ * 중복 처리 방지를 사용하면 첫 호출 이후의 배치는 모두 중복으로 걸러지므로, dedup=true는 재전송된 배치를 처리하는 비용입니다.
+ */
+@State(Scope.Benchmark)
+public class StatusListenerBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final Acknowledgment NO_OP_ACK = () -> {
+    };
+
+    @Param({"false", "true"})
+    public boolean dedup;
+
+    private OutboxStatusChangeListener listener;
+    private KeyOrderedExecutor keyOrderedExecutor;
+    private List<ConsumerRecord<String, byte[]>> batch;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OutboxDeduplicator deduplicator = dedup
+                ? OutboxDeduplicator.create(100_000, 600_000L, 16, 1_000_000, 0.01, null)
+                : null;
+        keyOrderedExecutor = new KeyOrderedExecutor(1, 1, Thread.ofVirtual().factory());
+        listener = new OutboxStatusChangeListener(new BenchmarkSupport.InMemoryOutboxService(),
+                new OutboxConsumerProperties(),
+                BenchmarkSupport.provider(OutboxRetryTopicResolver.class, null),
+                BenchmarkSupport.provider(DeadLetterPublishingRecoverer.class, null),
+                keyOrderedExecutor,
+                BenchmarkSupport.provider(OutboxDeduplicator.class, deduplicator),
+                BenchmarkSupport.metrics(),
+                BenchmarkSupport.provider(KafkaListenerEndpointRegistry.class, null));
+
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(record(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        keyOrderedExecutor.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void listenBatch() {
+        listener.listenBatch(batch, NO_OP_ACK);
+    }
+
+    @Benchmark
+    public void listen() {
+        listener.listen(batch.get(next++ % BATCH_SIZE), NO_OP_ACK);
+    }
+
+    private static ConsumerRecord<String, byte[]> record(long offset) {
+        byte[] id = Long.toString(offset).getBytes(StandardCharsets.UTF_8);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(OutboxHeaders.OUTBOX_ID, id);
+        headers.add(OutboxHeaders.EVENT_TYPE, "ORDER_CREATED".getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(BenchmarkSupport.TOPIC, 0, offset, System.currentTimeMillis(),
+                TimestampType.CREATE_TIME, 0, id.length, "order-" + (offset % 1024), id, headers, Optional.empty());
+    }
+
+}
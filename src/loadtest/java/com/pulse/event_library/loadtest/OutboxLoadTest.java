@@ -0,0 +1,354 @@
+package com.pulse.event_library.loadtest;
+
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.service.OutboxKafkaService;
+import com.pulse.event_library.service.OutboxRetentionRequest;
+import com.pulse.event_library.service.OutboxService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 임베디드 Kafka 브로커(KRaft)와 H2로 Outbox 전체 경로를 실행하여 처리량과 지연 시간을 측정합니다.
+ *
+ * 1. 여러 스레드가 트랜잭션 안에서 이벤트를 발행합니다. (커밋 직전 Outbox 테이블 저장 -> 커밋 후 Kafka 전송 -> 처리 완료 표시)
+ * 2. 상태 변경 리스너(BATCH 모드)가 메시지를 수신하여 상태를 업데이트할 때까지 기다립니다.
+ * 3. 발행 처리량, 수신까지의 처리량, 저장부터 브로커 ack까지의 지연 시간 분포를 출력합니다.
+ *
+ * 실행: ./gradlew loadTest -Pevents=100000 -Pthreads=16 -PpayloadMode=BODY -PtracingMode=FULL
+ * 트랜잭션 발행 모드: ./gradlew loadTest -Ptransactional=true (컨슈머는 read_committed로 수신)
+ * 상태 변경 쓰기 지연: ./gradlew loadTest -PstatusBuffer=true (ack 시각은 처리 완료 상태를 반영한 시각)
+ */
+public final class OutboxLoadTest {
+
+    static final String TOPIC = "load-outbox";
+
+    private OutboxLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int events = Integer.getInteger("events", 50_000);
+        int threads = Integer.getInteger("threads", 8);
+        String payloadMode = System.getProperty("payloadMode", "ID");
+        String tracingMode = System.getProperty("tracingMode", "LIGHT");
+        boolean transactional = Boolean.getBoolean("transactional");
+        boolean statusBuffer = Boolean.getBoolean("statusBuffer");
+
+        // 브로커가 하나이므로 트랜잭션 상태 토픽의 복제 수를 1로 낮춥니다.
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 4, TOPIC);
+        broker.brokerProperties(Map.of(
+                "transaction.state.log.replication.factor", "1",
+                "transaction.state.log.min.isr", "1"));
+        broker.afterPropertiesSet();
+        LoadTestRecorder recorder = new LoadTestRecorder(events);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("loadTestRecorder", recorder))
+                .properties(Map.ofEntries(
+                        Map.entry("spring.kafka.producer.bootstrap-servers", broker.getBrokersAsString()),
+                        Map.entry("spring.kafka.consumer.bootstrap-servers", broker.getBrokersAsString()),
+                        Map.entry("spring.kafka.consumer.group-id", "outbox-load-test"),
+                        Map.entry("spring.kafka.consumer.isolation-level", transactional ? "read_committed" : "read_uncommitted"),
+                        Map.entry("spring.datasource.url", "jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1"),
+                        Map.entry("pulse.outbox.consumer.mode", "BATCH"),
+                        Map.entry("pulse.outbox.payload.mode", payloadMode),
+                        Map.entry("pulse.outbox.tracing.mode", tracingMode),
+                        Map.entry("pulse.outbox.transaction.enabled", String.valueOf(transactional)),
+                        Map.entry("pulse.outbox.status-buffer.enabled", String.valueOf(statusBuffer)),
+                        Map.entry("logging.level.org.apache.kafka", "WARN"),
+                        Map.entry("logging.level.kafka", "WARN")))
+                .run()) {
+
+            // 1. 상태 변경 리스너가 모든 파티션을 할당받을 때까지 기다립니다. (할당 전에 전송한 메시지를 놓치지 않도록)
+            KafkaListenerEndpointRegistry registry = context.getBean(KafkaListenerEndpointRegistry.class);
+            ContainerTestUtils.waitForAssignment(registry.getListenerContainer("outbox-status-batch-listener"), 4);
+
+            // 2. 여러 스레드에서 트랜잭션마다 이벤트 하나를 발행합니다.
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+            ApplicationEventPublisher publisher = context;
+            AtomicLong ids = new AtomicLong();
+            long startNanos = System.nanoTime();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long id;
+                    while ((id = ids.incrementAndGet()) <= events) {
+                        LoadEvent event = LoadEvent.of(id);
+                        transactionTemplate.executeWithoutResult(status -> publisher.publishEvent(event));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // 3. 모든 이벤트의 브로커 ack와 상태 변경 리스너의 수신을 기다립니다.
+            boolean acked = recorder.awaitAcked(Duration.ofMinutes(5));
+            long ackedNanos = System.nanoTime() - startNanos;
+            boolean consumed = recorder.awaitConsumed(Duration.ofMinutes(5));
+            long consumedNanos = System.nanoTime() - startNanos;
+
+            report(events, threads, payloadMode, tracingMode, transactional, statusBuffer, recorder, acked, ackedNanos, consumed, consumedNanos);
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    private static void report(int events, int threads, String payloadMode, String tracingMode, boolean transactional,
+                               boolean statusBuffer, LoadTestRecorder recorder, boolean acked, long ackedNanos, boolean consumed, long consumedNanos) {
+        long[] latencies = recorder.latencies();
+        Arrays.sort(latencies);
+
+        System.out.println();
+        System.out.printf("=== Outbox load test (events=%d, threads=%d, payload=%s, tracing=%s, transactional=%s, statusBuffer=%s) ===%n",
+                events, threads, payloadMode, tracingMode, transactional, statusBuffer);
+        System.out.printf("produce  : %s events in %.2f s -> %,.0f events/s%n",
+                acked ? "all" : "TIMEOUT, " + latencies.length, ackedNanos / 1e9, latencies.length / (ackedNanos / 1e9));
+        System.out.printf("consume  : %s events in %.2f s -> %,.0f events/s (end-to-end)%n",
+                consumed ? "all" : "TIMEOUT, " + recorder.consumedCount(), consumedNanos / 1e9,
+                recorder.consumedCount() / (consumedNanos / 1e9));
+        System.out.printf("save->ack: p50=%.2f ms, p90=%.2f ms, p99=%.2f ms, p99.9=%.2f ms, max=%.2f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), percentile(latencies, 1.0));
+        System.out.println();
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    /**
+     * 부하 테스트에서 발행하는 이벤트
+     */
+    public record LoadEvent(Long id, String eventType, String partitionKey, Map<String, Object> payload) implements OutboxEvent {
+
+        static LoadEvent of(long id) {
+            String orderId = "order-" + (id % 4096);
+            return new LoadEvent(id, "ORDER_CREATED", orderId,
+                    Map.of("orderId", orderId, "quantity", 3, "amount", 129_000L, "skus", List.of("SKU-1001", "SKU-2002")));
+        }
+
+        @Override
+        public String getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getPartitionKey() {
+            return partitionKey;
+        }
+
+        @Override
+        public Object getPayload() {
+            return payload;
+        }
+
+    }
+
+    /**
+     * 이벤트별 저장 / 브로커 ack 시각과 수신 여부를 기록합니다.
+     */
+    static final class LoadTestRecorder {
+
+        private final long[] savedNanos;
+        private final long[] ackedNanos;
+        private final AtomicIntegerArray consumed;
+        private final CountDownLatch ackLatch;
+        private final CountDownLatch consumeLatch;
+
+        LoadTestRecorder(int events) {
+            this.savedNanos = new long[events + 1];
+            this.ackedNanos = new long[events + 1];
+            this.consumed = new AtomicIntegerArray(events + 1);
+            this.ackLatch = new CountDownLatch(events);
+            this.consumeLatch = new CountDownLatch(events);
+        }
+
+        void saved(long id) {
+            savedNanos[(int) id] = System.nanoTime();
+        }
+
+        void acked(long id) {
+            ackedNanos[(int) id] = System.nanoTime();
+            ackLatch.countDown();
+        }
+
+        void consumed(long id) {
+            // 재전송으로 같은 id를 여러 번 수신해도 한 번만 셉니다.
+            if (id > 0 && id < consumed.length() && consumed.compareAndSet((int) id, 0, 1)) {
+                consumeLatch.countDown();
+            }
+        }
+
+        boolean awaitAcked(Duration timeout) throws InterruptedException {
+            return ackLatch.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        boolean awaitConsumed(Duration timeout) throws InterruptedException {
+            return consumeLatch.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        long consumedCount() {
+            return consumed.length() - 1 - consumeLatch.getCount();
+        }
+
+        long[] latencies() {
+            long[] latencies = new long[ackedNanos.length];
+            int count = 0;
+            for (int i = 1; i < ackedNanos.length; i++) {
+                if (ackedNanos[i] != 0 && savedNanos[i] != 0) {
+                    latencies[count++] = ackedNanos[i] - savedNanos[i];
+                }
+            }
+            return Arrays.copyOf(latencies, count);
+        }
+
+    }
+
+    /**
+     * Outbox 테이블을 H2에 두는 애플리케이션 (라이브러리 빈은 자동 설정으로 등록됩니다.)
+     */
+    @SpringBootApplication
+    static class LoadTestApplication {
+
+        @Bean
+        JdbcOutboxService jdbcOutboxService(JdbcTemplate jdbcTemplate, LoadTestRecorder loadTestRecorder) {
+            jdbcTemplate.execute("""
+                    CREATE TABLE IF NOT EXISTS outbox (
+                        id BIGINT PRIMARY KEY,
+                        event_type VARCHAR(100) NOT NULL,
+                        status VARCHAR(20) NOT NULL,
+                        created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+                    )""");
+            return new JdbcOutboxService(jdbcTemplate, loadTestRecorder);
+        }
+
+    }
+
+    /**
+     * JDBC로 구현한 Outbox 서비스
+     */
+    static final class JdbcOutboxService implements OutboxService, OutboxKafkaService {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final LoadTestRecorder recorder;
+
+        JdbcOutboxService(JdbcTemplate jdbcTemplate, LoadTestRecorder recorder) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void saveOutboxEvent(OutboxEvent event) {
+            jdbcTemplate.update("INSERT INTO outbox (id, event_type, status) VALUES (?, ?, 'PENDING')",
+                    event.getId(), event.getEventType());
+            recorder.saved(event.getId());
+        }
+
+        @Override
+        public void saveOutboxEvents(List<OutboxEvent> events) {
+            jdbcTemplate.batchUpdate("INSERT INTO outbox (id, event_type, status) VALUES (?, ?, 'PENDING')", events, events.size(),
+                    (ps, event) -> {
+                        ps.setLong(1, event.getId());
+                        ps.setString(2, event.getEventType());
+                    });
+            events.forEach(event -> recorder.saved(event.getId()));
+        }
+
+        @Override
+        public void markOutboxEventProcessed(OutboxEvent event) {
+            jdbcTemplate.update("UPDATE outbox SET status = 'PROCESSED' WHERE id = ?", event.getId());
+            recorder.acked(event.getId());
+        }
+
+        @Override
+        public void markOutboxEventsProcessed(List<OutboxEvent> events) {
+            jdbcTemplate.batchUpdate("UPDATE outbox SET status = 'PROCESSED' WHERE id = ? AND status <> 'SUCCESS'", events, events.size(),
+                    (ps, event) -> ps.setLong(1, event.getId()));
+            events.forEach(event -> recorder.acked(event.getId()));
+        }
+
+        @Override
+        public void markOutboxEventsFailed(List<OutboxEvent> events) {
+            jdbcTemplate.batchUpdate("UPDATE outbox SET status = 'FAILED' WHERE id = ? AND status <> 'SUCCESS'", events, events.size(),
+                    (ps, event) -> ps.setLong(1, event.getId()));
+        }
+
+        @Override
+        public void markOutboxEventSuccess(OutboxEvent event) {
+            jdbcTemplate.update("UPDATE outbox SET status = 'SUCCESS' WHERE id = ?", event.getId());
+        }
+
+        @Override
+        public void markOutboxEventFailed(OutboxEvent event) {
+            jdbcTemplate.update("UPDATE outbox SET status = 'FAILED' WHERE id = ?", event.getId());
+        }
+
+        @Override
+        public String getKafkaTopic(OutboxEvent event) {
+            return TOPIC;
+        }
+
+        @Override
+        public long purgeOutboxEvents(OutboxRetentionRequest request) {
+            return jdbcTemplate.update("""
+                    DELETE FROM outbox
+                     WHERE status IN ('PROCESSED', 'SUCCESS') AND created_at < ?
+                     FETCH FIRST ? ROWS ONLY""", Timestamp.from(request.createdBefore()), request.limit());
+        }
+
+        @Override
+        public long countOutboxEvents() {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox", Long.class);
+        }
+
+        @Override
+        public void updateOutboxStatus() {
+            // 레코드 단위 리스너는 outbox id를 넘기지 않으므로 사용하지 않습니다. (BATCH 모드로 실행)
+        }
+
+        @Override
+        public void updateOutboxStatus(Collection<Long> ids) {
+            jdbcTemplate.batchUpdate("UPDATE outbox SET status = 'SUCCESS' WHERE id = ?", ids, ids.size(),
+                    (ps, id) -> ps.setLong(1, id));
+            ids.forEach(recorder::consumed);
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.pulse.event_library.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인코딩된 Kafka 메시지 값과 컨슈머가 디코딩에 사용할 헤더 값입니다.
+ *
+ * @param data            메시지 값
+ * @param contentType     content-type 헤더 값
+ * @param contentEncoding content-encoding 헤더 값 (압축하지 않은 경우 null)
+ */
+public record EncodedPayload(byte[] data, String contentType, String contentEncoding) {
+
+    public static final String TEXT_PLAIN = "text/plain";
+
+    /**
+     * outbox id만 담은 메시지 값을 생성합니다. (pulse.outbox.payload.mode=ID)
+     *
+     * @param id outbox id
+     * @return outbox id 문자열을 담은 메시지 값
+     */
+    public static EncodedPayload ofId(Long id) {
+        return new EncodedPayload(String.valueOf(id).getBytes(StandardCharsets.UTF_8), TEXT_PLAIN, null);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.pulse.event_library.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Jackson ObjectMapper를 사용하는 코덱입니다.
+ * JSON(application/json)과 Smile(application/x-jackson-smile)처럼 ObjectMapper의 팩토리만 다른 형식에 함께 사용합니다.
+ */
+public class JacksonPayloadCodec implements OutboxPayloadCodec {
+
+    public static final String JSON = "application/json";
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private final String contentType;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public JacksonPayloadCodec(String contentType, ObjectMapper objectMapper) {
+        this.contentType = contentType;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer();
+    }
+
+    @Override
+    public String contentType() {
+        return contentType;
+    }
+
+    @Override
+    public void encode(Object payload, OutputStream out) throws IOException {
+        writer.writeValue(out, payload);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, int offset, int length, Class<T> type) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(type);
+        return reader.readValue(data, offset, length);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.pulse.event_library.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Outbox 이벤트 본문을 Kafka 메시지 값(byte[])으로 변환하는 코덱입니다.
+ * 컨슈머는 content-type 헤더 값으로 같은 contentType()을 가진 코덱을 찾아 본문을 복원합니다.
+ *
+ * 빈으로 등록하면 기본 코덱(JSON, Smile)과 함께 OutboxPayloadCodecs에 등록됩니다.
+ */
+public interface OutboxPayloadCodec {
+
+    /**
+     * 코덱이 생성하는 메시지의 content-type (ex. application/json)
+     */
+    String contentType();
+
+    /**
+     * 본문을 인코딩하여 out에 기록합니다.
+     * out은 재사용되는 버퍼이므로 코덱에서 닫거나 보관하지 않아야 합니다.
+     *
+     * @param payload 인코딩할 본문
+     * @param out     인코딩 결과를 기록할 스트림
+     */
+    void encode(Object payload, OutputStream out) throws IOException;
+
+    /**
+     * 인코딩된 본문을 지정한 타입으로 복원합니다.
+     *
+     * @param data   인코딩된 본문
+     * @param offset 본문 시작 위치
+     * @param length 본문 길이
+     * @param type   복원할 타입
+     * @return 복원된 본문
+     */
+    <T> T decode(byte[] data, int offset, int length, Class<T> type) throws IOException;
+
+}
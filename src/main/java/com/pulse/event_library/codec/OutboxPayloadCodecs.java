@@ -0,0 +1,223 @@
+package com.pulse.event_library.codec;
+
+import com.pulse.event_library.event.OutboxHeaders;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * content-type별 코덱을 보관하고, 이벤트 본문의 인코딩 / 디코딩을 담당합니다.
+ *
+ * 인코딩 버퍼와 Deflater는 풀에서 빌려 쓰고 반납하므로, 메시지마다 생성되는 객체는 최종 결과 배열뿐입니다.
+ * (스레드가 아닌 풀에 보관하므로 가상 스레드에서 호출해도 버퍼가 스레드 수만큼 늘어나지 않습니다.)
+ * 압축은 인코딩 결과가 임계값 이상일 때만 수행하며, 압축한 메시지에는 content-encoding 헤더 값을 추가합니다.
+ */
+public class OutboxPayloadCodecs {
+
+    public static final String DEFLATE = "deflate";
+
+    private final Map<String, OutboxPayloadCodec> codecsByContentType;
+    private final OutboxPayloadCodec writeCodec;
+    private final boolean compress;
+    private final int compressionThreshold;
+    private final int compressionLevel;
+    private final int maxRetainedBufferSize;
+    private final BlockingQueue<EncodeBuffer> buffers;
+    private final BlockingQueue<Deflater> deflaters;
+
+    /**
+     * @param codecs                사용할 수 있는 코덱 목록 (같은 content-type이면 앞의 코덱을 사용)
+     * @param writeContentType      인코딩에 사용할 코덱의 content-type
+     * @param compress              deflate 압축 사용 여부
+     * @param compressionThreshold  압축할 최소 크기(byte)
+     * @param compressionLevel      deflate 압축 레벨 (0 ~ 9)
+     * @param poolSize              풀에 보관할 버퍼 / Deflater의 최대 개수
+     * @param maxRetainedBufferSize 풀에 반납할 버퍼의 최대 크기(byte), 이보다 커진 버퍼는 버립니다.
+     */
+    public OutboxPayloadCodecs(List<OutboxPayloadCodec> codecs,
+                               String writeContentType,
+                               boolean compress,
+                               int compressionThreshold,
+                               int compressionLevel,
+                               int poolSize,
+                               int maxRetainedBufferSize) {
+        Map<String, OutboxPayloadCodec> byContentType = new LinkedHashMap<>();
+        for (OutboxPayloadCodec codec : codecs) {
+            byContentType.putIfAbsent(codec.contentType(), codec);
+        }
+        this.codecsByContentType = Map.copyOf(byContentType);
+        this.writeCodec = byContentType.get(writeContentType);
+        if (this.writeCodec == null) {
+            throw new IllegalStateException("Unknown outbox payload codec: " + writeContentType);
+        }
+        this.compress = compress;
+        this.compressionThreshold = compressionThreshold;
+        this.compressionLevel = compressionLevel;
+        this.maxRetainedBufferSize = maxRetainedBufferSize;
+        this.buffers = new ArrayBlockingQueue<>(poolSize);
+        this.deflaters = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * 이벤트 본문을 인코딩합니다.
+     *
+     * @param payload 인코딩할 본문
+     * @return 인코딩된 메시지 값과 헤더 값
+     */
+    public EncodedPayload encode(Object payload) {
+        EncodeBuffer buffer = borrowBuffer();
+        try {
+            // 1. 재사용 버퍼에 본문을 인코딩합니다.
+            writeCodec.encode(payload, buffer);
+
+            // 2. 임계값 이상이면 압축합니다.
+            if (compress && buffer.size() >= compressionThreshold) {
+                return new EncodedPayload(deflate(buffer), writeCodec.contentType(), DEFLATE);
+            }
+            return new EncodedPayload(buffer.toByteArray(), writeCodec.contentType(), null);
+        } catch (IOException e) {
+            // 재시도해도 성공할 수 없는 예외이므로 재시도 대상이 아닌 예외로 전달합니다.
+            throw new SerializationException("Failed to encode outbox payload with " + writeCodec.contentType(), e);
+        } finally {
+            returnBuffer(buffer);
+        }
+    }
+
+    /**
+     * content-type / content-encoding 헤더에 맞는 코덱으로 메시지 값을 복원합니다.
+     * content-type 헤더가 없으면 인코딩에 사용하는 코덱으로 복원합니다.
+     *
+     * @param data    메시지 값
+     * @param headers 메시지 헤더
+     * @param type    복원할 타입
+     * @return 복원된 본문
+     */
+    public <T> T decode(byte[] data, Headers headers, Class<T> type) {
+        String contentType = headerValue(headers, OutboxHeaders.CONTENT_TYPE);
+        OutboxPayloadCodec codec = contentType != null ? codecsByContentType.get(contentType) : writeCodec;
+        if (codec == null) {
+            throw new SerializationException("No outbox payload codec for content-type: " + contentType);
+        }
+
+        try {
+            byte[] raw = DEFLATE.equals(headerValue(headers, OutboxHeaders.CONTENT_ENCODING)) ? inflate(data) : data;
+            return codec.decode(raw, 0, raw.length, type);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Failed to decode outbox payload with " + codec.contentType(), e);
+        }
+    }
+
+    /**
+     * 인코딩에 사용하는 코덱의 content-type
+     */
+    public String getWriteContentType() {
+        return writeCodec.contentType();
+    }
+
+    private byte[] deflate(EncodeBuffer input) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(compressionLevel);
+        }
+        EncodeBuffer output = borrowBuffer();
+        try {
+            deflater.setInput(input.array(), 0, input.size());
+            deflater.finish();
+            while (!deflater.finished()) {
+                output.deflateFrom(deflater);
+            }
+            return output.toByteArray();
+        } finally {
+            returnBuffer(output);
+            deflater.reset();
+            if (!deflaters.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    private byte[] inflate(byte[] data) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        EncodeBuffer output = borrowBuffer();
+        try {
+            inflater.setInput(data);
+            while (!inflater.finished()) {
+                if (output.inflateFrom(inflater) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated deflate payload");
+                }
+            }
+            return output.toByteArray();
+        } finally {
+            returnBuffer(output);
+            inflater.end();
+        }
+    }
+
+    private EncodeBuffer borrowBuffer() {
+        EncodeBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new EncodeBuffer();
+    }
+
+    private void returnBuffer(EncodeBuffer buffer) {
+        if (buffer.capacity() <= maxRetainedBufferSize) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    private static String headerValue(Headers headers, String key) {
+        Header header = headers != null ? headers.lastHeader(key) : null;
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * 내부 배열을 직접 사용할 수 있는 재사용 버퍼
+     */
+    private static class EncodeBuffer extends ByteArrayOutputStream {
+
+        private EncodeBuffer() {
+            super(1024);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private void deflateFrom(Deflater deflater) {
+            ensureSpace();
+            count += deflater.deflate(buf, count, buf.length - count);
+        }
+
+        private int inflateFrom(Inflater inflater) throws DataFormatException {
+            ensureSpace();
+            int inflated = inflater.inflate(buf, count, buf.length - count);
+            count += inflated;
+            return inflated;
+        }
+
+        private void ensureSpace() {
+            if (count == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+        }
+
+    }
+
+}
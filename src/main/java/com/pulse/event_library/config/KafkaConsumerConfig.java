@@ -1,7 +1,13 @@
 package com.pulse.event_library.config;
 
+import com.pulse.event_library.consumer.KeyOrderedExecutor;
+import com.pulse.event_library.consumer.OutboxListenerContainerCustomizer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -12,22 +18,31 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Kafka 컨슈머의 설정을 담당합니다.
  */
 @Configuration
 @EnableKafka
+@EnableConfigurationProperties(OutboxConsumerProperties.class)
 @ConfigurationProperties(prefix = "spring.kafka.consumer")
 public class KafkaConsumerConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(KafkaConsumerConfig.class);
+
     private String bootstrapServers;
     private String groupId;
+    private String isolationLevel;
 
     public void setBootstrapServers(String bootstrapServers) {
         this.bootstrapServers = bootstrapServers;
@@ -37,20 +52,34 @@ public class KafkaConsumerConfig {
         this.groupId = groupId;
     }
 
+    /**
+     * 컨슈머의 격리 수준 (read_committed / read_uncommitted, 지정하지 않으면 Kafka 기본값인 read_uncommitted)
+     * 트랜잭션 발행 모드(pulse.outbox.transaction.enabled=true)에서는 read_committed로 설정해야
+     * 중단된 트랜잭션의 레코드를 수신하지 않습니다.
+     */
+    public void setIsolationLevel(String isolationLevel) {
+        this.isolationLevel = isolationLevel != null ? isolationLevel.toLowerCase(Locale.ROOT).replace('-', '_') : null;
+    }
+
     /**
      * Kafka 컨슈머 팩토리를 설정합니다.
      * 이 팩토리는 Kafka 브로커로부터 메시지를 수신하는 컨슈머를 생성하는 데 사용됩니다.
      * 컨슈머 팩토리는 컨슈머 구성 설정을 포함합니다.
      *
+     * 메시지 값은 byte[]로 수신하며, 본문은 content-type 헤더에 맞는 코덱(OutboxPayloadCodecs)으로 복원합니다.
+     *
      * @return Kafka 컨슈머 팩토리
      */
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        if (isolationLevel != null) {
+            props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, isolationLevel);
+        }
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
@@ -63,34 +92,167 @@ public class KafkaConsumerConfig {
      * MANUAL_IMMEDIATE ACK 모드는 메시지가 처리된 후 수동으로 즉시 ACK를 전송합니다. 리스너 메서드에서 Acknowledgment.acknowledge() 메서드를 호출하여 수동으로 ACK를 전송합니다.
      * 이 모드는 메시지가 제대로 처리되었을 때만 Kafka 브로커에 ACK를 보내므로, 메시지의 신뢰성을 높입니다.
      *
+     * @param properties                        Outbox 리스너 설정 값
+     * @param kafkaErrorHandler                 Kafka 오류 핸들러
+     * @param outboxListenerContainerCustomizer 리스너 컨테이너 커스터마이저
      * @return Kafka 리스너 컨테이너 팩토리
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory(OutboxConsumerProperties properties,
+                                                                                                CommonErrorHandler kafkaErrorHandler,
+                                                                                                OutboxListenerContainerCustomizer outboxListenerContainerCustomizer) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(properties.getConcurrency());
+        factory.setContainerCustomizer(outboxListenerContainerCustomizer);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        return factory;
+    }
+
+    /**
+     * 배치 리스너용 Kafka 리스너 컨테이너 팩토리를 설정합니다.
+     * 한 번의 poll로 받은 레코드 목록을 리스너에 전달하며, 리스너에서 배치마다 한 번 ACK를 전송하므로 오프셋 커밋도 배치마다 한 번 수행됩니다.
+     *
+     * 배치 크기는 max.poll.records로 제한하고, fetch.min.bytes와 fetch.max.wait.ms로 브로커가 레코드를 모아 응답하도록 합니다.
+     * (팩토리의 ContainerProperties에 지정한 컨슈머 설정은 컨테이너로 복사되지 않으므로, 배치 전용 컨슈머 팩토리의 설정으로 지정합니다.)
+     *
+     * @param properties                        Outbox 리스너 설정 값
+     * @param kafkaErrorHandler                 Kafka 오류 핸들러
+     * @param outboxListenerContainerCustomizer 리스너 컨테이너 커스터마이저
+     * @return 배치용 Kafka 리스너 컨테이너 팩토리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> batchKafkaListenerContainerFactory(OutboxConsumerProperties properties,
+                                                                                                     CommonErrorHandler kafkaErrorHandler,
+                                                                                                     OutboxListenerContainerCustomizer outboxListenerContainerCustomizer) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory(properties.getBatch()));
+        factory.setBatchListener(true);
+        factory.setConcurrency(properties.getConcurrency());
+        factory.setContainerCustomizer(outboxListenerContainerCustomizer);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
-        factory.setCommonErrorHandler(kafkaErrorHandler());
+        factory.setCommonErrorHandler(kafkaErrorHandler);
+        return factory;
+    }
+
+    /**
+     * 공통 컨슈머 설정에 배치 크기 / fetch 설정을 더한 배치 리스너 전용 컨슈머 팩토리를 생성합니다.
+     * ConsumerFactory를 타입으로 주입받는 다른 빈에 영향을 주지 않도록 빈으로 등록하지 않습니다.
+     */
+    private ConsumerFactory<String, byte[]> batchConsumerFactory(OutboxConsumerProperties.Batch batch) {
+        Map<String, Object> props = new HashMap<>(consumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batch.getMaxSize());
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, batch.getMinBytes());
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) batch.getMaxWait().toMillis());
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    /**
+     * 키 순서 보장 병렬 처리용 Kafka 리스너 컨테이너 팩토리를 설정합니다.
+     * 리스너는 레코드를 키별 레인에 넘기고 바로 반환하며, 레인에서 처리가 끝난 레코드를 순서와 관계없이 ACK 합니다.
+     * asyncAcks를 사용하므로 컨테이너는 파티션별로 연속해서 ACK된 위치(가장 낮은 미완료 오프셋 직전)까지만 오프셋을 커밋합니다.
+     *
+     * @param properties                        Outbox 리스너 설정 값
+     * @param kafkaErrorHandler                 Kafka 오류 핸들러
+     * @param outboxListenerContainerCustomizer 리스너 컨테이너 커스터마이저
+     * @return 키 순서 보장 병렬 처리용 Kafka 리스너 컨테이너 팩토리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> keyOrderedKafkaListenerContainerFactory(OutboxConsumerProperties properties,
+                                                                                                          CommonErrorHandler kafkaErrorHandler,
+                                                                                                          OutboxListenerContainerCustomizer outboxListenerContainerCustomizer) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(properties.getConcurrency());
+        factory.setContainerCustomizer(outboxListenerContainerCustomizer);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        factory.setCommonErrorHandler(kafkaErrorHandler);
         return factory;
     }
 
+    /**
+     * 리스너 컨테이너 팩토리가 생성하는 컨테이너를 설정하는 커스터마이저를 설정합니다.
+     * 컨슈머 스레드를 가상 스레드로 실행하도록 하고(pulse.outbox.consumer.virtual-threads),
+     * 토픽 패턴별 fetch / poll 설정(pulse.outbox.consumer.fetch)을 컨테이너의 컨슈머 설정에 덮어씁니다.
+     *
+     * @param properties Outbox 리스너 설정 값
+     * @return 리스너 컨테이너 커스터마이저
+     */
+    @Bean
+    public OutboxListenerContainerCustomizer outboxListenerContainerCustomizer(OutboxConsumerProperties properties) {
+        Map<String, Properties> overrides = new LinkedHashMap<>();
+        properties.getFetch().forEach((pattern, fetch) -> overrides.put(pattern, fetchProperties(fetch)));
+        return new OutboxListenerContainerCustomizer(properties.isVirtualThreads(), overrides);
+    }
+
+    private Properties fetchProperties(OutboxConsumerProperties.Fetch fetch) {
+        Properties consumerProps = new Properties();
+        if (fetch.getMaxPollRecords() != null) {
+            consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, fetch.getMaxPollRecords());
+        }
+        if (fetch.getMinBytes() != null) {
+            consumerProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, fetch.getMinBytes());
+        }
+        if (fetch.getMaxWait() != null) {
+            consumerProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) fetch.getMaxWait().toMillis());
+        }
+        if (fetch.getMaxBytes() != null) {
+            consumerProps.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, fetch.getMaxBytes());
+        }
+        if (fetch.getMaxPartitionBytes() != null) {
+            consumerProps.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, fetch.getMaxPartitionBytes());
+        }
+        if (fetch.getMaxPollInterval() != null) {
+            consumerProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, (int) fetch.getMaxPollInterval().toMillis());
+        }
+        consumerProps.putAll(fetch.getProperties());
+        return consumerProps;
+    }
+
+    /**
+     * 키 순서 보장 병렬 처리에 사용할 실행기를 설정합니다.
+     * 레인의 스레드는 작업이 처음 제출될 때 생성되므로 KEY_ORDERED 모드가 아니면 스레드를 만들지 않습니다.
+     *
+     * @param properties Outbox 리스너 설정 값
+     * @return 키 순서 보장 실행기
+     */
+    @Bean
+    public KeyOrderedExecutor keyOrderedExecutor(OutboxConsumerProperties properties) {
+        OutboxConsumerProperties.KeyOrdered keyOrdered = properties.getKeyOrdered();
+        ThreadFactory threadFactory = keyOrdered.isVirtualThreads()
+                ? Thread.ofVirtual().name("outbox-key-lane-", 0).factory()
+                : Thread.ofPlatform().name("outbox-key-lane-", 0).factory();
+        return new KeyOrderedExecutor(keyOrdered.getConcurrency(), keyOrdered.getMaxInFlight(), threadFactory);
+    }
+
     /**
      * Kafka 오류 핸들러를 설정합니다.
      * 이 핸들러는 Kafka 리스너에서 메시지 처리 중에 발생하는 예외를 처리하는 데 사용됩니다.
      * 예외 발생 시 재시도 로직 또는 사용자 정의 예외 처리 로직을 추가할 수 있습니다.
      *
-     * FixedBackOff를 사용하여 5초 간격으로 최대 3회 재시도를 수행하도록 설정합니다.
+     * 기본적으로 FixedBackOff를 사용하여 5초 간격으로 최대 3회 재시도를 수행하도록 설정합니다.
      * 재시도 중 예외가 발생할 경우 로그에 기록합니다.
      *
+     * 재시도 토픽(pulse.outbox.consumer.retry-topic.enabled)이 활성화된 경우에는 원래 파티션에서 재시도하지 않고,
+     * 실패한 레코드를 즉시 다음 재시도 토픽 / DLT로 옮겨 같은 파티션의 다른 메시지가 막히지 않도록 합니다.
+     * 레코드를 옮길 때 원래의 헤더(트레이스 컨텍스트 포함)는 그대로 유지됩니다.
+     *
+     * @param deadLetterRecoverer 재시도 토픽 / DLT 리커버러 (재시도 토픽 사용 시에만 존재)
      * @return Kafka 오류 핸들러
      */
     @Bean
-    public CommonErrorHandler kafkaErrorHandler() {
+    public CommonErrorHandler kafkaErrorHandler(ObjectProvider<DeadLetterPublishingRecoverer> deadLetterRecoverer) {
+        DeadLetterPublishingRecoverer recoverer = deadLetterRecoverer.getIfAvailable();
+        if (recoverer != null) {
+            return new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
+        }
+
         DefaultErrorHandler errorHandler = new DefaultErrorHandler(new FixedBackOff(5000L, 3));
-        errorHandler.setRetryListeners((record, ex, deliveryAttempt) -> {
-            System.err.println("Failed to process record: " + record + " after " + deliveryAttempt + " attempts");
-            System.err.println("Exception: " + ex.getMessage());
-        });
+        errorHandler.setRetryListeners((record, ex, deliveryAttempt) ->
+                log.warn("Failed to process record: topic={}, partition={}, offset={} after {} attempts: {}",
+                        record.topic(), record.partition(), record.offset(), deliveryAttempt, ex.getMessage()));
         return errorHandler;
     }
 
@@ -1,6 +1,10 @@
 package com.pulse.event_library.config;
 
+import com.pulse.event_library.producer.ProducerProfileRegistry;
+import com.pulse.event_library.retry.AsyncRetryExecutor;
+import com.pulse.event_library.retry.RetryPolicy;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -14,11 +18,14 @@ import org.springframework.retry.support.RetryTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Kafka 프로듀서의 설정을 담당합니다.
  */
 @Configuration
+@EnableConfigurationProperties(OutboxProducerProperties.class)
 @ConfigurationProperties(prefix = "spring.kafka.producer")
 public class KafkaProducerConfig {
 
@@ -33,15 +40,26 @@ public class KafkaProducerConfig {
      * 이 팩토리는 Kafka 브로커에 메시지를 전송하는 프로듀서를 생성하는 데 사용됩니다.
      * 프로듀서 팩토리는 프로듀서 구성 설정을 포함합니다.
      *
+     * 메시지 값은 OutboxPayloadCodecs로 인코딩한 byte[]를 그대로 전송합니다. (ByteArraySerializer)
+     *
      * @return Kafka 프로듀서 팩토리
      */
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, byte[]> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigs());
+    }
+
+    /**
+     * 프로듀서 공통 구성 설정을 생성합니다.
+     *
+     * @return 프로듀서 구성 설정
+     */
+    private Map<String, Object> producerConfigs() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return configProps;
     }
 
     /**
@@ -52,13 +70,86 @@ public class KafkaProducerConfig {
      * @return Kafka 템플릿
      */
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, byte[]> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    /**
+     * 이벤트 타입별 프로듀서 프로필 레지스트리를 설정합니다.
+     * 프로필마다 공통 설정에 프로필 설정을 덮어쓴 별도의 프로듀서 팩토리와 Kafka 템플릿을 생성합니다.
+     * (ex. bulk: 큰 batch.size + linger.ms + 압축, critical: linger.ms=0 + acks=all)
+     *
+     * @param properties 프로듀서 프로필 설정 값
+     * @return 프로듀서 프로필 레지스트리
+     */
+    @Bean
+    public ProducerProfileRegistry producerProfileRegistry(OutboxProducerProperties properties) {
+        // 1. 프로필마다 별도의 프로듀서 팩토리와 Kafka 템플릿을 생성합니다.
+        Map<String, KafkaTemplate<String, byte[]>> templates = new HashMap<>();
+        properties.getProfiles().forEach((name, profile) -> {
+            Map<String, Object> configProps = producerConfigs();
+            applyProfile(configProps, profile);
+            templates.put(name, new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps)));
+        });
+
+        // 2. 기본 프로필이 지정되지 않은 경우 기본 Kafka 템플릿을 사용합니다.
+        String defaultProfile = properties.getDefaultProfile();
+        if (defaultProfile != null && !templates.containsKey(defaultProfile)) {
+            throw new IllegalStateException("Unknown kafka producer profile: " + defaultProfile);
+        }
+        KafkaTemplate<String, byte[]> defaultTemplate = defaultProfile != null ? templates.get(defaultProfile) : kafkaTemplate();
+
+        return new ProducerProfileRegistry(defaultTemplate, templates, properties.getEventTypes());
+    }
+
+    private void applyProfile(Map<String, Object> configProps, OutboxProducerProperties.Profile profile) {
+        if (profile.getLinger() != null) {
+            configProps.put(ProducerConfig.LINGER_MS_CONFIG, (int) profile.getLinger().toMillis());
+        }
+        if (profile.getBatchSize() != null) {
+            configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.getBatchSize());
+        }
+        if (profile.getCompressionType() != null) {
+            configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.getCompressionType());
+        }
+        if (profile.getAcks() != null) {
+            configProps.put(ProducerConfig.ACKS_CONFIG, profile.getAcks());
+        }
+        if (profile.getEnableIdempotence() != null) {
+            configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, profile.getEnableIdempotence());
+        }
+        if (profile.getMaxInFlightRequestsPerConnection() != null) {
+            configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, profile.getMaxInFlightRequestsPerConnection());
+        }
+        configProps.putAll(profile.getProperties());
+    }
+
+    /**
+     * Kafka 전송 재시도 실행기를 설정합니다.
+     * 전송 결과(CompletableFuture)를 기준으로 재시도하며, 재시도 대기는 공유 스케줄러로 예약하므로 스레드를 재우지 않습니다.
+     * key-ordered를 사용하면 같은 파티션 키의 전송은 이전 전송(재시도 포함)이 끝날 때까지 스케줄러에서 대기합니다.
+     *
+     * @param properties 프로듀서 설정 값
+     * @return Kafka 전송 재시도 실행기
+     */
+    @Bean
+    public AsyncRetryExecutor kafkaSendRetryExecutor(OutboxProducerProperties properties) {
+        OutboxProducerProperties.Retry retry = properties.getRetry();
+        RetryPolicy retryPolicy = new RetryPolicy(
+                retry.getMaxAttempts(),
+                retry.getInitialInterval(),
+                retry.getMultiplier(),
+                retry.getMaxInterval(),
+                retry.getJitter()
+        );
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("kafka-send-retry").daemon(true).factory());
+        return new AsyncRetryExecutor(retryPolicy, scheduler, retry.isKeyOrdered());
+    }
+
     /**
      * 재시도 템플릿을 설정합니다.
-     * @Retryable 어노테이션을 사용하면 이것을 사용하지 않아도 됩니다.
+     * Kafka 전송 재시도는 kafkaSendRetryExecutor가 담당합니다.
      * 재시도 템플릿은 Kafka 메시지 전송 및 수신 시 재시도 로직을 구성하는 데 사용됩니다.
      *
      * @return 재시도 템플릿
@@ -0,0 +1,38 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.tracing.OutboxTracing;
+import com.pulse.event_library.transaction.OutboxSaveBatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 트랜잭션 단위 Outbox 일괄 저장의 설정을 담당합니다.
+ * pulse.outbox.batch.enabled=true 인 경우에만 일괄 저장기를 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxBatchProperties.class)
+@ConditionalOnProperty(prefix = "pulse.outbox.batch", name = "enabled", havingValue = "true")
+public class OutboxBatchConfig {
+
+    /**
+     * 트랜잭션 단위 Outbox 일괄 저장기를 설정합니다.
+     *
+     * @param properties    일괄 저장 설정 값
+     * @param outboxService Outbox 서비스
+     * @param outboxMetrics Outbox 지표 기록기
+     * @param outboxTracing Outbox 트레이싱
+     * @return Outbox 일괄 저장기
+     */
+    @Bean
+    public OutboxSaveBatcher outboxSaveBatcher(OutboxBatchProperties properties,
+                                               OutboxService outboxService,
+                                               OutboxMetrics outboxMetrics,
+                                               OutboxTracing outboxTracing) {
+        return new OutboxSaveBatcher(outboxService, properties.getMaxBatchSize(), outboxMetrics, outboxTracing);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 트랜잭션 단위 Outbox 일괄 저장의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.batch")
+public class OutboxBatchProperties {
+
+    // 트랜잭션 단위 일괄 저장 사용 여부 (false이면 이벤트마다 BEFORE_COMMIT 시점에 저장)
+    private boolean enabled = false;
+
+    // saveOutboxEvents 한 번에 전달하는 최대 이벤트 수
+    private int maxBatchSize = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+}
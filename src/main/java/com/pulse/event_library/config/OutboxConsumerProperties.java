@@ -0,0 +1,545 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbox 상태 변경 리스너(OutboxStatusChangeListener)의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.consumer")
+public class OutboxConsumerProperties {
+
+    // 리스너 동작 방식
+    private Mode mode = Mode.RECORD;
+
+    // 리스너 컨테이너당 컨슈머 스레드 수 (파티션 수보다 많은 스레드는 파티션을 할당받지 못합니다.)
+    private int concurrency = 1;
+
+    // 컨슈머 스레드(리스너 호출 포함)를 가상 스레드로 실행할지 여부
+    private boolean virtualThreads = false;
+
+    // 토픽 패턴별 fetch / poll 설정 (키: 리스너의 topicPattern과 같은 문자열 또는 리스너의 토픽 이름에 일치하는 정규식)
+    private Map<String, Fetch> fetch = new LinkedHashMap<>();
+
+    // 지연(lag)에 따른 컨슈머 스레드 수 자동 조정 설정
+    private final AutoScale autoScale = new AutoScale();
+
+    // BATCH 모드 설정
+    private final Batch batch = new Batch();
+
+    // KEY_ORDERED 모드 설정
+    private final KeyOrdered keyOrdered = new KeyOrdered();
+
+    // 재시도 토픽 / DLT 설정
+    private final RetryTopic retryTopic = new RetryTopic();
+
+    // 중복 처리 방지 설정
+    private final Dedup dedup = new Dedup();
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public Map<String, Fetch> getFetch() {
+        return fetch;
+    }
+
+    public void setFetch(Map<String, Fetch> fetch) {
+        this.fetch = fetch;
+    }
+
+    public AutoScale getAutoScale() {
+        return autoScale;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public KeyOrdered getKeyOrdered() {
+        return keyOrdered;
+    }
+
+    public RetryTopic getRetryTopic() {
+        return retryTopic;
+    }
+
+    public Dedup getDedup() {
+        return dedup;
+    }
+
+    /**
+     * 리스너 동작 방식
+     */
+    public enum Mode {
+
+        // 레코드 단위로 처리하고 레코드마다 오프셋을 커밋한다.
+        RECORD,
+
+        // 여러 레코드를 한 번에 받아 일괄 업데이트하고 배치마다 오프셋을 한 번 커밋한다.
+        BATCH,
+
+        // 같은 키의 레코드는 순서대로, 다른 키의 레코드는 병렬로 처리하고 연속으로 완료된 위치까지만 오프셋을 커밋한다.
+        KEY_ORDERED
+
+    }
+
+    public static class Batch {
+
+        // 한 번에 수신할 최대 레코드 수 (max.poll.records)
+        private int maxSize = 500;
+
+        // 최소 수신 크기를 채울 때까지 브로커가 기다리는 최대 시간 (fetch.max.wait.ms)
+        private Duration maxWait = Duration.ofMillis(500);
+
+        // 브로커가 응답하기 위해 모아야 하는 최소 바이트 수 (fetch.min.bytes)
+        private int minBytes = 16 * 1024;
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public int getMinBytes() {
+            return minBytes;
+        }
+
+        public void setMinBytes(int minBytes) {
+            this.minBytes = minBytes;
+        }
+
+    }
+
+    /**
+     * 토픽 패턴별 fetch / poll 설정
+     * 지정한 값만 리스너 컨테이너의 컨슈머 설정을 덮어씁니다. (BATCH 모드의 batch 설정보다 우선)
+     */
+    public static class Fetch {
+
+        // 한 번에 수신할 최대 레코드 수 (max.poll.records)
+        private Integer maxPollRecords;
+
+        // 브로커가 응답하기 위해 모아야 하는 최소 바이트 수 (fetch.min.bytes)
+        private Integer minBytes;
+
+        // 최소 수신 크기를 채울 때까지 브로커가 기다리는 최대 시간 (fetch.max.wait.ms)
+        private Duration maxWait;
+
+        // 한 번의 fetch 응답의 최대 바이트 수 (fetch.max.bytes)
+        private Integer maxBytes;
+
+        // 파티션당 fetch 응답의 최대 바이트 수 (max.partition.fetch.bytes)
+        private Integer maxPartitionBytes;
+
+        // poll 호출 사이의 최대 간격 (max.poll.interval.ms)
+        private Duration maxPollInterval;
+
+        // 그 밖의 컨슈머 설정
+        private Map<String, String> properties = new LinkedHashMap<>();
+
+        public Integer getMaxPollRecords() {
+            return maxPollRecords;
+        }
+
+        public void setMaxPollRecords(Integer maxPollRecords) {
+            this.maxPollRecords = maxPollRecords;
+        }
+
+        public Integer getMinBytes() {
+            return minBytes;
+        }
+
+        public void setMinBytes(Integer minBytes) {
+            this.minBytes = minBytes;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public Integer getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(Integer maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public Integer getMaxPartitionBytes() {
+            return maxPartitionBytes;
+        }
+
+        public void setMaxPartitionBytes(Integer maxPartitionBytes) {
+            this.maxPartitionBytes = maxPartitionBytes;
+        }
+
+        public Duration getMaxPollInterval() {
+            return maxPollInterval;
+        }
+
+        public void setMaxPollInterval(Duration maxPollInterval) {
+            this.maxPollInterval = maxPollInterval;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public void setProperties(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+    }
+
+    /**
+     * 컨슈머 스레드 수 자동 조정 설정
+     * 컨슈머 그룹의 지연(lag)을 주기적으로 조회하여 lagPerConsumer건당 스레드 하나가 되도록 스레드 수를 조정합니다.
+     * 스레드 수를 바꾸면 리스너 컨테이너를 재시작하므로 리밸런싱이 발생합니다.
+     */
+    public static class AutoScale {
+
+        // 자동 조정 사용 여부
+        private boolean enabled = false;
+
+        // 최소 스레드 수
+        private int minConcurrency = 1;
+
+        // 최대 스레드 수 (구독하는 파티션 수를 넘지 않습니다.)
+        private int maxConcurrency = 8;
+
+        // 스레드 하나가 맡을 지연 건수
+        private long lagPerConsumer = 1000;
+
+        // 지연을 조회하는 간격
+        private Duration interval = Duration.ofSeconds(15);
+
+        // 스레드 수를 바꾼 뒤 줄이기 전까지 기다리는 시간 (늘리는 경우에는 기다리지 않습니다.)
+        private Duration scaleDownCooldown = Duration.ofMinutes(2);
+
+        // AdminClient 요청의 최대 대기 시간
+        private Duration requestTimeout = Duration.ofSeconds(10);
+
+        // 자동 조정할 리스너 id
+        private List<String> listenerIds = new ArrayList<>(List.of(
+                "outbox-status-listener", "outbox-status-batch-listener", "outbox-status-key-ordered-listener"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinConcurrency() {
+            return minConcurrency;
+        }
+
+        public void setMinConcurrency(int minConcurrency) {
+            this.minConcurrency = minConcurrency;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public long getLagPerConsumer() {
+            return lagPerConsumer;
+        }
+
+        public void setLagPerConsumer(long lagPerConsumer) {
+            this.lagPerConsumer = lagPerConsumer;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public Duration getScaleDownCooldown() {
+            return scaleDownCooldown;
+        }
+
+        public void setScaleDownCooldown(Duration scaleDownCooldown) {
+            this.scaleDownCooldown = scaleDownCooldown;
+        }
+
+        public Duration getRequestTimeout() {
+            return requestTimeout;
+        }
+
+        public void setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+        }
+
+        public List<String> getListenerIds() {
+            return listenerIds;
+        }
+
+        public void setListenerIds(List<String> listenerIds) {
+            this.listenerIds = listenerIds;
+        }
+
+    }
+
+    public static class KeyOrdered {
+
+        // 키별 처리 레인(worker) 수 (같은 키는 항상 같은 레인에서 순서대로 처리됩니다.)
+        private int concurrency = 32;
+
+        // 처리 중이거나 대기 중인 레코드의 최대 수 (초과하면 컨슈머 스레드가 대기합니다.)
+        private int maxInFlight = 1000;
+
+        // 레인을 가상 스레드로 실행할지 여부
+        private boolean virtualThreads = true;
+
+        // 레인에서 처리를 시도하는 최대 횟수 (모두 실패하면 재시도 토픽 / DLT로 옮기거나 로그를 남기고 건너뜁니다.)
+        private int maxAttempts = 3;
+
+        // 레인에서 재시도 전 대기 시간 (같은 레인의 레코드만 대기합니다.)
+        private Duration backoff = Duration.ofSeconds(1);
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getBackoff() {
+            return backoff;
+        }
+
+        public void setBackoff(Duration backoff) {
+            this.backoff = backoff;
+        }
+
+    }
+
+    /**
+     * 재시도 토픽 / DLT 설정
+     * 처리에 실패한 레코드를 원래 파티션에서 재시도하지 않고 단계별 재시도 토픽으로 옮긴 뒤,
+     * 모든 단계에서 실패하면 DLT로 옮깁니다. (ex. order-outbox -> order-outbox-retry-0 -> order-outbox-retry-1 -> order-outbox-dlt)
+     */
+    public static class RetryTopic {
+
+        // 재시도 토픽 사용 여부 (false이면 원래 파티션에서 FixedBackOff로 재시도)
+        private boolean enabled = false;
+
+        // 단계별 재시도 지연 시간 (단계 수 = 목록의 크기, 각 값은 max.poll.interval.ms보다 작아야 합니다.)
+        private List<Duration> delays = new ArrayList<>(List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofMinutes(1)));
+
+        // 재시도 토픽 접미사
+        private String retrySuffix = "-retry";
+
+        // DLT 접미사
+        private String dltSuffix = "-dlt";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<Duration> getDelays() {
+            return delays;
+        }
+
+        public void setDelays(List<Duration> delays) {
+            this.delays = delays;
+        }
+
+        public String getRetrySuffix() {
+            return retrySuffix;
+        }
+
+        public void setRetrySuffix(String retrySuffix) {
+            this.retrySuffix = retrySuffix;
+        }
+
+        public String getDltSuffix() {
+            return dltSuffix;
+        }
+
+        public void setDltSuffix(String dltSuffix) {
+            this.dltSuffix = dltSuffix;
+        }
+
+    }
+
+    /**
+     * 중복 처리 방지 설정
+     * 이미 처리한 (토픽, outbox id)를 메모리에 기억해두고, 다시 수신하면 상태를 업데이트하지 않고 ack 처리합니다.
+     * (리밸런싱, 프로듀서 재시도, 릴레이 재발행으로 같은 outbox id가 여러 번 수신되는 경우)
+     */
+    public static class Dedup {
+
+        // 중복 처리 방지 사용 여부
+        private boolean enabled = false;
+
+        // 기억할 최대 항목 수 (초과하면 가장 오래된 항목부터 제거)
+        private int maxSize = 100_000;
+
+        // 항목을 기억하는 시간
+        private Duration ttl = Duration.ofMinutes(10);
+
+        // 캐시를 나누는 구간 수 (구간마다 잠금을 사용하므로 동시 처리량에 맞게 설정)
+        private int segments = 16;
+
+        // 블룸 필터 설정
+        private final BloomFilter bloomFilter = new BloomFilter();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getSegments() {
+            return segments;
+        }
+
+        public void setSegments(int segments) {
+            this.segments = segments;
+        }
+
+        public BloomFilter getBloomFilter() {
+            return bloomFilter;
+        }
+
+    }
+
+    /**
+     * 블룸 필터 설정
+     * 처음 수신한 outbox id는 캐시의 잠금을 잡지 않고 블룸 필터에서 바로 걸러냅니다.
+     */
+    public static class BloomFilter {
+
+        // 블룸 필터 사용 여부
+        private boolean enabled = false;
+
+        // 한 세대에 기록할 예상 항목 수 (초과하거나 ttl이 지나면 새 세대로 교체, max-size 이상이어야 함)
+        private int expectedInsertions = 1_000_000;
+
+        // 허용할 오탐률
+        private double falsePositiveRate = 0.01;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getExpectedInsertions() {
+            return expectedInsertions;
+        }
+
+        public void setExpectedInsertions(int expectedInsertions) {
+            this.expectedInsertions = expectedInsertions;
+        }
+
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.consumer.OutboxConsumerScaler;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컨슈머 그룹의 지연에 따른 컨슈머 스레드 수 자동 조정 설정을 담당합니다.
+ * pulse.outbox.consumer.auto-scale.enabled=true 인 경우에만 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "pulse.outbox.consumer.auto-scale", name = "enabled", havingValue = "true")
+public class OutboxConsumerScalingConfig {
+
+    /**
+     * 리스너 컨테이너의 스레드 수를 조정하는 스케일러를 설정합니다.
+     * AdminClient는 컨슈머 팩토리의 설정 중 AdminClient 설정(bootstrap.servers, 보안 설정 등)만 가져와 생성합니다.
+     *
+     * @param properties                    Outbox 리스너 설정 값
+     * @param kafkaListenerEndpointRegistry 리스너 컨테이너 레지스트리
+     * @param consumerFactory               컨슈머 팩토리
+     * @return 컨슈머 스케일러
+     */
+    @Bean
+    public OutboxConsumerScaler outboxConsumerScaler(OutboxConsumerProperties properties,
+                                                     KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                                                     ConsumerFactory<String, byte[]> consumerFactory) {
+        // 1. 컨슈머 설정에서 AdminClient 설정만 가져옵니다.
+        Set<String> adminConfigNames = AdminClientConfig.configNames();
+        Map<String, Object> adminConfigs = new HashMap<>();
+        consumerFactory.getConfigurationProperties().forEach((key, value) -> {
+            if (adminConfigNames.contains(key) && value != null) {
+                adminConfigs.put(key, value);
+            }
+        });
+
+        // 2. 스케일러를 생성합니다.
+        OutboxConsumerProperties.AutoScale autoScale = properties.getAutoScale();
+        return new OutboxConsumerScaler(
+                kafkaListenerEndpointRegistry,
+                adminConfigs,
+                autoScale.getListenerIds(),
+                autoScale.getMinConcurrency(),
+                autoScale.getMaxConcurrency(),
+                autoScale.getLagPerConsumer(),
+                autoScale.getInterval(),
+                autoScale.getScaleDownCooldown(),
+                autoScale.getRequestTimeout(),
+                Thread.ofPlatform().name("outbox-consumer-scaler").daemon(true).factory()
+        );
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.dedup.OutboxDeduplicationStore;
+import com.pulse.event_library.dedup.OutboxDeduplicator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox 상태 변경 리스너의 중복 처리 방지 설정을 담당합니다.
+ * pulse.outbox.consumer.dedup.enabled=true 인 경우에만 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "pulse.outbox.consumer.dedup", name = "enabled", havingValue = "true")
+public class OutboxDedupConfig {
+
+    /**
+     * 중복 처리 방지 캐시를 설정합니다.
+     * OutboxDeduplicationStore 빈이 등록되어 있으면 메모리 캐시에서 찾지 못한 항목을 영구 저장소에서 찾습니다.
+     * 블룸 필터의 예상 항목 수가 캐시의 최대 항목 수보다 작으면 캐시에 남아 있는 항목이 블룸 필터에서 먼저 사라져
+     * 캐시를 조회하지 않게 되므로 기동하지 않습니다.
+     *
+     * @param properties         Outbox 리스너 설정 값
+     * @param deduplicationStore 영구 저장소 (선택)
+     * @return 중복 처리 방지 캐시
+     */
+    @Bean
+    public OutboxDeduplicator outboxDeduplicator(OutboxConsumerProperties properties,
+                                                 ObjectProvider<OutboxDeduplicationStore> deduplicationStore) {
+        OutboxConsumerProperties.Dedup dedup = properties.getDedup();
+        OutboxConsumerProperties.BloomFilter bloomFilter = dedup.getBloomFilter();
+        if (bloomFilter.isEnabled() && bloomFilter.getExpectedInsertions() < dedup.getMaxSize()) {
+            throw new IllegalStateException("pulse.outbox.consumer.dedup.bloom-filter.expected-insertions ("
+                    + bloomFilter.getExpectedInsertions() + ") must be at least pulse.outbox.consumer.dedup.max-size ("
+                    + dedup.getMaxSize() + ")");
+        }
+        return OutboxDeduplicator.create(
+                dedup.getMaxSize(),
+                dedup.getTtl().toMillis(),
+                dedup.getSegments(),
+                bloomFilter.isEnabled() ? bloomFilter.getExpectedInsertions() : 0,
+                bloomFilter.getFalsePositiveRate(),
+                deduplicationStore.getIfAvailable()
+        );
+    }
+
+}
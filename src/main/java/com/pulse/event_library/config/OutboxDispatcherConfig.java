@@ -0,0 +1,59 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.dispatcher.OutboxDispatcher;
+import com.pulse.event_library.dispatcher.QueueFullPolicy;
+import com.pulse.event_library.service.OutboxPublishService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 비동기 Outbox 디스패처의 설정을 담당합니다.
+ * pulse.outbox.dispatcher.enabled=true 인 경우에만 디스패처를 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxDispatcherProperties.class)
+@ConditionalOnProperty(prefix = "pulse.outbox.dispatcher", name = "enabled", havingValue = "true")
+public class OutboxDispatcherConfig {
+
+    /**
+     * 비동기 Outbox 디스패처를 설정합니다.
+     * 워커는 설정에 따라 플랫폼 스레드 또는 가상 스레드로 생성됩니다.
+     * DROP_TO_RELAY 정책은 생략한 이벤트를 릴레이가 재발행해야 하므로, 릴레이를 사용하지 않으면 기동하지 않습니다.
+     *
+     * @param properties           디스패처 설정 값
+     * @param outboxPublishService Outbox 이벤트 발행 서비스
+     * @param relayEnabled         릴레이 사용 여부 (pulse.outbox.relay.enabled)
+     * @return 비동기 Outbox 디스패처
+     */
+    @Bean
+    public OutboxDispatcher outboxDispatcher(OutboxDispatcherProperties properties,
+                                             OutboxPublishService outboxPublishService,
+                                             @Value("${pulse.outbox.relay.enabled:false}") boolean relayEnabled) {
+        if (properties.getQueueFullPolicy() == QueueFullPolicy.DROP_TO_RELAY && !relayEnabled) {
+            throw new IllegalStateException(
+                    "pulse.outbox.dispatcher.queue-full-policy=DROP_TO_RELAY requires pulse.outbox.relay.enabled=true");
+        }
+
+        ThreadFactory threadFactory = properties.isVirtualThreads()
+                ? Thread.ofVirtual().name("outbox-dispatcher-", 0).factory()
+                : Thread.ofPlatform().name("outbox-dispatcher-", 0).factory();
+
+        return new OutboxDispatcher(
+                outboxPublishService,
+                properties.getQueueCapacity(),
+                properties.getWorkerCount(),
+                threadFactory,
+                properties.getQueueFullPolicy(),
+                properties.getOfferTimeout(),
+                properties.getShutdownTimeout(),
+                relayEnabled,
+                properties.getMaxInFlight()
+        );
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.dispatcher.QueueFullPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비동기 Outbox 디스패처의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.dispatcher")
+public class OutboxDispatcherProperties {
+
+    // 비동기 디스패처 사용 여부 (false이면 AFTER_COMMIT 스레드에서 직접 발행)
+    private boolean enabled = false;
+
+    // 대기 큐의 최대 크기 (워커 수로 나누어 워커별 큐의 크기로 사용)
+    private int queueCapacity = 10_000;
+
+    // 큐를 비우는 워커 스레드 수 (같은 파티션 키의 이벤트는 같은 워커가 발행)
+    private int workerCount = 4;
+
+    // 워커를 가상 스레드로 실행할지 여부
+    private boolean virtualThreads = false;
+
+    // 상태 변경까지 끝나지 않은 발행의 최대 수 (도달하면 워커가 기다리며 큐가 차기 시작합니다.)
+    private int maxInFlight = 1000;
+
+    // 큐가 가득 찼을 때의 처리 정책
+    private QueueFullPolicy queueFullPolicy = QueueFullPolicy.CALLER_RUNS;
+
+    // BLOCK 정책에서 큐에 빈 자리가 생길 때까지 기다리는 최대 시간
+    private Duration offerTimeout = Duration.ofMillis(500);
+
+    // 종료 시 큐에 남은 이벤트를 발행하기 위해 기다리는 최대 시간
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    public void setWorkerCount(int workerCount) {
+        this.workerCount = workerCount;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public QueueFullPolicy getQueueFullPolicy() {
+        return queueFullPolicy;
+    }
+
+    public void setQueueFullPolicy(QueueFullPolicy queueFullPolicy) {
+        this.queueFullPolicy = queueFullPolicy;
+    }
+
+    public Duration getOfferTimeout() {
+        return offerTimeout;
+    }
+
+    public void setOfferTimeout(Duration offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+}
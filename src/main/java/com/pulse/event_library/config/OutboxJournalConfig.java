@@ -0,0 +1,95 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.journal.OutboxJournalReplayer;
+import com.pulse.event_library.journal.OutboxSpillJournal;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.OutboxCircuitBreaker;
+import com.pulse.event_library.service.KafkaProducerService;
+import com.pulse.event_library.service.OutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 브로커 장애 시 사용하는 회로 차단기와 로컬 저널의 설정을 담당합니다.
+ * pulse.outbox.journal.enabled=true 인 경우에만 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxJournalProperties.class)
+@ConditionalOnProperty(prefix = "pulse.outbox.journal", name = "enabled", havingValue = "true")
+public class OutboxJournalConfig {
+
+    /**
+     * Kafka 전송 결과로 브로커 장애를 감지하는 회로 차단기를 설정합니다.
+     *
+     * @param properties 저널 설정 값
+     * @return 회로 차단기
+     */
+    @Bean
+    public OutboxCircuitBreaker outboxCircuitBreaker(OutboxJournalProperties properties) {
+        OutboxJournalProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        return new OutboxCircuitBreaker(circuitBreaker.getFailureThreshold(), circuitBreaker.getOpenDuration());
+    }
+
+    /**
+     * 회로가 열린 동안 커밋된 이벤트를 기록하는 로컬 저널을 설정합니다.
+     * 기동 시 디렉터리에 남아있는 세그먼트를 복구하여 재전송하지 않은 이벤트를 이어서 재전송합니다.
+     * 저널에 기록한 이벤트는 DB에서 미처리 상태로 남으므로, 릴레이와 함께 사용하면 다른 인스턴스의 릴레이가
+     * 같은 이벤트를 선점하여 중복 발행합니다. 따라서 릴레이를 사용하는 경우 기동하지 않습니다.
+     *
+     * @param properties   저널 설정 값
+     * @param relayEnabled 릴레이 사용 여부 (pulse.outbox.relay.enabled)
+     * @return 로컬 저널
+     */
+    @Bean
+    public OutboxSpillJournal outboxSpillJournal(OutboxJournalProperties properties,
+                                                 @Value("${pulse.outbox.relay.enabled:false}") boolean relayEnabled) {
+        if (relayEnabled) {
+            throw new IllegalStateException(
+                    "pulse.outbox.journal.enabled=true cannot be combined with pulse.outbox.relay.enabled=true: "
+                            + "journaled events stay unprocessed in the outbox table and would be relayed twice");
+        }
+        return new OutboxSpillJournal(
+                Path.of(properties.getDirectory()),
+                properties.getSegmentSize(),
+                properties.getMaxSize(),
+                properties.isForceOnWrite()
+        );
+    }
+
+    /**
+     * 로컬 저널의 이벤트를 기록한 순서대로 재전송하는 재전송기를 설정합니다.
+     *
+     * @param properties           저널 설정 값
+     * @param outboxSpillJournal   로컬 저널
+     * @param outboxCircuitBreaker 회로 차단기
+     * @param kafkaProducerService Kafka 전송 서비스
+     * @param outboxService        Outbox 서비스
+     * @param outboxMetrics        Outbox 지표
+     * @return 저널 재전송기
+     */
+    @Bean
+    public OutboxJournalReplayer outboxJournalReplayer(OutboxJournalProperties properties,
+                                                       OutboxSpillJournal outboxSpillJournal,
+                                                       OutboxCircuitBreaker outboxCircuitBreaker,
+                                                       KafkaProducerService kafkaProducerService,
+                                                       OutboxService outboxService,
+                                                       OutboxMetrics outboxMetrics) {
+        return new OutboxJournalReplayer(
+                outboxSpillJournal,
+                outboxCircuitBreaker,
+                kafkaProducerService,
+                outboxService,
+                outboxMetrics,
+                properties.getReplayBatchSize(),
+                properties.getReplayRate(),
+                properties.getPollInterval(),
+                Thread.ofPlatform().name("outbox-journal-replayer").daemon(true).factory()
+        );
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 브로커 장애 시 사용하는 회로 차단기와 로컬 저널의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.journal")
+public class OutboxJournalProperties {
+
+    // 회로 차단기 / 로컬 저널 사용 여부
+    private boolean enabled = false;
+
+    // 세그먼트 파일을 저장할 디렉터리 (인스턴스마다 다른 디렉터리를 사용해야 합니다.)
+    private String directory = "outbox-journal";
+
+    // 세그먼트 파일 크기(byte)
+    private int segmentSize = 64 * 1024 * 1024;
+
+    // 저널의 최대 크기(byte), 초과하면 이벤트를 실패 상태로 변경합니다.
+    private long maxSize = 1024L * 1024 * 1024;
+
+    // 레코드를 기록할 때마다 디스크에 반영할지 여부 (false이면 OS가 반영하며, 프로세스가 종료되어도 기록은 유지됩니다.)
+    private boolean forceOnWrite = false;
+
+    // 회로가 닫힐 때 저널에 남아 있던 이벤트의 초당 최대 재전송 건수 (이후에 기록된 이벤트는 제한하지 않음)
+    private int replayRate = 1000;
+
+    // 한 번에 재전송할 최대 건수
+    private int replayBatchSize = 100;
+
+    // 재전송할 이벤트가 없거나 회로가 열려 있을 때 다시 확인하는 간격
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    // 회로 차단기 설정
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isForceOnWrite() {
+        return forceOnWrite;
+    }
+
+    public void setForceOnWrite(boolean forceOnWrite) {
+        this.forceOnWrite = forceOnWrite;
+    }
+
+    public int getReplayRate() {
+        return replayRate;
+    }
+
+    public void setReplayRate(int replayRate) {
+        this.replayRate = replayRate;
+    }
+
+    public int getReplayBatchSize() {
+        return replayBatchSize;
+    }
+
+    public void setReplayBatchSize(int replayBatchSize) {
+        this.replayBatchSize = replayBatchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public static class CircuitBreaker {
+
+        // 회로를 여는 연속 전송 실패 횟수 (재시도 가능한 실패만 셉니다.)
+        private int failureThreshold = 5;
+
+        // 회로가 열린 뒤 시험 전송을 하기까지의 시간
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+    }
+
+}
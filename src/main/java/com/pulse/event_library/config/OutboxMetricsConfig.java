@@ -0,0 +1,100 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.consumer.KeyOrderedExecutor;
+import com.pulse.event_library.consumer.OutboxConsumerScaler;
+import com.pulse.event_library.dedup.OutboxDeduplicator;
+import com.pulse.event_library.dispatcher.OutboxDispatcher;
+import com.pulse.event_library.journal.OutboxSpillJournal;
+import com.pulse.event_library.metrics.OutboxBacklogProbe;
+import com.pulse.event_library.metrics.OutboxEndpoint;
+import com.pulse.event_library.metrics.OutboxMeterBinder;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.OutboxCircuitBreaker;
+import com.pulse.event_library.producer.OutboxTransactionalPublisher;
+import com.pulse.event_library.relay.OutboxRelay;
+import com.pulse.event_library.retention.OutboxRetention;
+import com.pulse.event_library.routing.OutboxTopicRouter;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.status.OutboxStatusBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox 지표와 액추에이터 엔드포인트의 설정을 담당합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxMetricsProperties.class)
+public class OutboxMetricsConfig {
+
+    /**
+     * Outbox 파이프라인의 지표 기록기를 설정합니다.
+     * MeterRegistry 빈이 없으면 전역 레지스트리(Metrics.globalRegistry)에 기록합니다.
+     *
+     * @param properties    지표 설정 값
+     * @param meterRegistry 지표 레지스트리
+     * @return Outbox 지표 기록기
+     */
+    @Bean
+    public OutboxMetrics outboxMetrics(OutboxMetricsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OutboxMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), properties.isPercentileHistogram());
+    }
+
+    /**
+     * 가장 오래된 미발행 이벤트의 경과 시간을 계산하는 프로브를 설정합니다.
+     *
+     * @param properties    지표 설정 값
+     * @param outboxService Outbox 서비스
+     * @return 미발행 이벤트 프로브
+     */
+    @Bean
+    public OutboxBacklogProbe outboxBacklogProbe(OutboxMetricsProperties properties, OutboxService outboxService) {
+        return new OutboxBacklogProbe(outboxService, properties.getOldestUnpublishedRefreshInterval());
+    }
+
+    /**
+     * Outbox 구성 요소의 게이지를 등록하는 바인더를 설정합니다. (액추에이터가 MeterRegistry에 바인딩)
+     */
+    @Bean
+    public OutboxMeterBinder outboxMeterBinder(ObjectProvider<OutboxDispatcher> outboxDispatcher,
+                                               ObjectProvider<OutboxRelay> outboxRelay,
+                                               ObjectProvider<KeyOrderedExecutor> keyOrderedExecutor,
+                                               ObjectProvider<OutboxConsumerScaler> outboxConsumerScaler,
+                                               ObjectProvider<OutboxDeduplicator> outboxDeduplicator,
+                                               ObjectProvider<OutboxSpillJournal> outboxSpillJournal,
+                                               ObjectProvider<OutboxCircuitBreaker> outboxCircuitBreaker,
+                                               ObjectProvider<OutboxTransactionalPublisher> outboxTransactionalPublisher,
+                                               ObjectProvider<OutboxStatusBuffer> outboxStatusBuffer,
+                                               ObjectProvider<OutboxRetention> outboxRetention,
+                                               OutboxBacklogProbe outboxBacklogProbe) {
+        return new OutboxMeterBinder(outboxDispatcher, outboxRelay, keyOrderedExecutor, outboxConsumerScaler, outboxDeduplicator,
+                outboxSpillJournal, outboxCircuitBreaker, outboxTransactionalPublisher, outboxStatusBuffer, outboxRetention, outboxBacklogProbe);
+    }
+
+    /**
+     * Outbox 상태를 요약하는 액추에이터 엔드포인트를 설정합니다.
+     */
+    @Bean
+    public OutboxEndpoint outboxEndpoint(OutboxMetrics outboxMetrics,
+                                         OutboxBacklogProbe outboxBacklogProbe,
+                                         OutboxConsumerProperties consumerProperties,
+                                         OutboxTopicRouter outboxTopicRouter,
+                                         ObjectProvider<OutboxDispatcher> outboxDispatcher,
+                                         ObjectProvider<OutboxRelay> outboxRelay,
+                                         ObjectProvider<KeyOrderedExecutor> keyOrderedExecutor,
+                                         ObjectProvider<OutboxConsumerScaler> outboxConsumerScaler,
+                                         ObjectProvider<OutboxDeduplicator> outboxDeduplicator,
+                                         ObjectProvider<OutboxSpillJournal> outboxSpillJournal,
+                                         ObjectProvider<OutboxCircuitBreaker> outboxCircuitBreaker,
+                                         ObjectProvider<OutboxTransactionalPublisher> outboxTransactionalPublisher,
+                                         ObjectProvider<OutboxStatusBuffer> outboxStatusBuffer,
+                                         ObjectProvider<OutboxRetention> outboxRetention) {
+        return new OutboxEndpoint(outboxMetrics, outboxBacklogProbe, consumerProperties, outboxTopicRouter,
+                outboxDispatcher, outboxRelay, keyOrderedExecutor, outboxConsumerScaler, outboxDeduplicator, outboxSpillJournal, outboxCircuitBreaker,
+                outboxTransactionalPublisher, outboxStatusBuffer, outboxRetention);
+    }
+
+}
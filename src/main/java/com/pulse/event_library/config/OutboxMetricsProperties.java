@@ -0,0 +1,35 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox 지표의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.metrics")
+public class OutboxMetricsProperties {
+
+    // 가장 오래된 미발행 이벤트 조회 결과를 재사용하는 시간 (지표 수집 시 DB 조회 빈도를 제한)
+    private Duration oldestUnpublishedRefreshInterval = Duration.ofSeconds(30);
+
+    // 타이머의 백분위 히스토그램 발행 여부 (Prometheus 등에서 백분위를 계산할 때 사용)
+    private boolean percentileHistogram = false;
+
+    public Duration getOldestUnpublishedRefreshInterval() {
+        return oldestUnpublishedRefreshInterval;
+    }
+
+    public void setOldestUnpublishedRefreshInterval(Duration oldestUnpublishedRefreshInterval) {
+        this.oldestUnpublishedRefreshInterval = oldestUnpublishedRefreshInterval;
+    }
+
+    public boolean isPercentileHistogram() {
+        return percentileHistogram;
+    }
+
+    public void setPercentileHistogram(boolean percentileHistogram) {
+        this.percentileHistogram = percentileHistogram;
+    }
+
+}
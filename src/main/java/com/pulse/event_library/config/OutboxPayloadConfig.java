@@ -0,0 +1,56 @@
+package com.pulse.event_library.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.pulse.event_library.codec.JacksonPayloadCodec;
+import com.pulse.event_library.codec.OutboxPayloadCodec;
+import com.pulse.event_library.codec.OutboxPayloadCodecs;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox 메시지 값(payload) 코덱의 설정을 담당합니다.
+ * 컨슈머에서도 본문을 복원할 수 있도록 pulse.outbox.payload.mode와 관계없이 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxPayloadProperties.class)
+public class OutboxPayloadConfig {
+
+    /**
+     * 코덱 레지스트리를 설정합니다.
+     * 애플리케이션에서 등록한 코덱을 먼저 사용하고, 기본 코덱으로 JSON과 Smile(바이너리 JSON)을 등록합니다.
+     * 기본 코덱은 애플리케이션의 ObjectMapper 설정(등록된 모듈 포함)을 그대로 사용합니다.
+     *
+     * @param properties   payload 설정 값
+     * @param codecs       애플리케이션에서 등록한 코덱
+     * @param objectMapper 애플리케이션의 ObjectMapper (없으면 기본 ObjectMapper 사용)
+     * @return 코덱 레지스트리
+     */
+    @Bean
+    public OutboxPayloadCodecs outboxPayloadCodecs(OutboxPayloadProperties properties,
+                                                   ObjectProvider<OutboxPayloadCodec> codecs,
+                                                   ObjectProvider<ObjectMapper> objectMapper) {
+        ObjectMapper jsonMapper = objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules());
+
+        List<OutboxPayloadCodec> available = new ArrayList<>(codecs.orderedStream().toList());
+        available.add(new JacksonPayloadCodec(JacksonPayloadCodec.JSON, jsonMapper));
+        available.add(new JacksonPayloadCodec(JacksonPayloadCodec.SMILE, jsonMapper.copyWith(new SmileFactory())));
+
+        OutboxPayloadProperties.Compression compression = properties.getCompression();
+        return new OutboxPayloadCodecs(
+                available,
+                properties.getContentType(),
+                compression.isEnabled(),
+                compression.getThreshold(),
+                compression.getLevel(),
+                properties.getBufferPoolSize(),
+                properties.getMaxRetainedBufferSize()
+        );
+    }
+
+}
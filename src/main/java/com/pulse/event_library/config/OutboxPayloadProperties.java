@@ -0,0 +1,109 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.codec.JacksonPayloadCodec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Outbox 메시지 값(payload)의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.payload")
+public class OutboxPayloadProperties {
+
+    // 메시지 값에 담을 내용 (ID: outbox id만 전송, BODY: 이벤트 본문을 코덱으로 인코딩하여 전송)
+    private Mode mode = Mode.ID;
+
+    // BODY 모드에서 인코딩에 사용할 코덱의 content-type (application/json, application/x-jackson-smile 또는 등록한 코덱)
+    private String contentType = JacksonPayloadCodec.JSON;
+
+    // 압축 설정
+    private final Compression compression = new Compression();
+
+    // 풀에 보관할 인코딩 버퍼 / Deflater의 최대 개수
+    private int bufferPoolSize = 64;
+
+    // 풀에 반납할 인코딩 버퍼의 최대 크기(byte), 이보다 커진 버퍼는 재사용하지 않습니다.
+    private int maxRetainedBufferSize = 1024 * 1024;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public int getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    public void setBufferPoolSize(int bufferPoolSize) {
+        this.bufferPoolSize = bufferPoolSize;
+    }
+
+    public int getMaxRetainedBufferSize() {
+        return maxRetainedBufferSize;
+    }
+
+    public void setMaxRetainedBufferSize(int maxRetainedBufferSize) {
+        this.maxRetainedBufferSize = maxRetainedBufferSize;
+    }
+
+    public enum Mode {
+        ID,
+        BODY
+    }
+
+    /**
+     * 압축 설정
+     * 인코딩 결과가 임계값 이상인 경우에만 deflate로 압축하고 content-encoding 헤더를 추가합니다.
+     */
+    public static class Compression {
+
+        // deflate 압축 사용 여부
+        private boolean enabled = false;
+
+        // 압축할 최소 크기(byte)
+        private int threshold = 1024;
+
+        // deflate 압축 레벨 (0 ~ 9)
+        private int level = 6;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outbox 이벤트를 발행하는 Kafka 프로듀서의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.producer")
+public class OutboxProducerProperties {
+
+    // 이름별 프로듀서 프로필 (프로필마다 별도의 프로듀서와 KafkaTemplate이 생성됩니다.)
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    // 이벤트 타입(OutboxEvent.getEventType()) -> 프로필 이름
+    private Map<String, String> eventTypes = new LinkedHashMap<>();
+
+    // 매핑되지 않은 이벤트 타입에 사용할 프로필 이름 (미지정 시 기본 KafkaTemplate 사용)
+    private String defaultProfile;
+
+    // 전송 완료 후 상태 변경(DB 호출)을 수행하는 스레드 수 (동시에 실행되는 상태 변경 수의 상한, DB 커넥션 풀보다 작게 지정)
+    private int completionThreads = 8;
+
+    // 전송 재시도 설정
+    private final Retry retry = new Retry();
+
+    public Map<String, Profile> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(Map<String, Profile> profiles) {
+        this.profiles = profiles;
+    }
+
+    public Map<String, String> getEventTypes() {
+        return eventTypes;
+    }
+
+    public void setEventTypes(Map<String, String> eventTypes) {
+        this.eventTypes = eventTypes;
+    }
+
+    public String getDefaultProfile() {
+        return defaultProfile;
+    }
+
+    public void setDefaultProfile(String defaultProfile) {
+        this.defaultProfile = defaultProfile;
+    }
+
+    public int getCompletionThreads() {
+        return completionThreads;
+    }
+
+    public void setCompletionThreads(int completionThreads) {
+        this.completionThreads = completionThreads;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    /**
+     * 프로듀서 프로필
+     * 지정하지 않은 값은 Kafka 프로듀서의 기본값을 따릅니다.
+     */
+    public static class Profile {
+
+        // linger.ms
+        private Duration linger;
+
+        // batch.size
+        private Integer batchSize;
+
+        // compression.type (none, gzip, snappy, lz4, zstd)
+        private String compressionType;
+
+        // acks (0, 1, all)
+        private String acks;
+
+        // enable.idempotence
+        private Boolean enableIdempotence;
+
+        // max.in.flight.requests.per.connection
+        private Integer maxInFlightRequestsPerConnection;
+
+        // 그 외 프로듀서 설정 (ProducerConfig 키 -> 값)
+        private Map<String, String> properties = new LinkedHashMap<>();
+
+        public Duration getLinger() {
+            return linger;
+        }
+
+        public void setLinger(Duration linger) {
+            this.linger = linger;
+        }
+
+        public Integer getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public String getCompressionType() {
+            return compressionType;
+        }
+
+        public void setCompressionType(String compressionType) {
+            this.compressionType = compressionType;
+        }
+
+        public String getAcks() {
+            return acks;
+        }
+
+        public void setAcks(String acks) {
+            this.acks = acks;
+        }
+
+        public Boolean getEnableIdempotence() {
+            return enableIdempotence;
+        }
+
+        public void setEnableIdempotence(Boolean enableIdempotence) {
+            this.enableIdempotence = enableIdempotence;
+        }
+
+        public Integer getMaxInFlightRequestsPerConnection() {
+            return maxInFlightRequestsPerConnection;
+        }
+
+        public void setMaxInFlightRequestsPerConnection(Integer maxInFlightRequestsPerConnection) {
+            this.maxInFlightRequestsPerConnection = maxInFlightRequestsPerConnection;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public void setProperties(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+    }
+
+    /**
+     * 전송 재시도 설정
+     * Kafka의 RetriableException 계열 예외에 대해서만 지수 백오프(+지터)로 재시도합니다.
+     */
+    public static class Retry {
+
+        // 최초 시도를 포함한 최대 시도 횟수
+        private int maxAttempts = 3;
+
+        // 첫 번째 재시도 전 대기 시간
+        private Duration initialInterval = Duration.ofMillis(200);
+
+        // 재시도마다 대기 시간에 곱하는 값
+        private double multiplier = 2.0;
+
+        // 최대 대기 시간
+        private Duration maxInterval = Duration.ofSeconds(10);
+
+        // 대기 시간에 더하거나 빼는 임의 비율 (0.0 ~ 1.0)
+        private double jitter = 0.2;
+
+        // 같은 파티션 키의 전송은 이전 전송이 재시도를 포함해 끝난 뒤에 보낼지 여부 (키마다 한 번에 하나의 전송만 진행)
+        private boolean keyOrdered = true;
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialInterval() {
+            return initialInterval;
+        }
+
+        public void setInitialInterval(Duration initialInterval) {
+            this.initialInterval = initialInterval;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        public Duration getMaxInterval() {
+            return maxInterval;
+        }
+
+        public void setMaxInterval(Duration maxInterval) {
+            this.maxInterval = maxInterval;
+        }
+
+        public double getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(double jitter) {
+            this.jitter = jitter;
+        }
+
+        public boolean isKeyOrdered() {
+            return keyOrdered;
+        }
+
+        public void setKeyOrdered(boolean keyOrdered) {
+            this.keyOrdered = keyOrdered;
+        }
+
+    }
+
+}
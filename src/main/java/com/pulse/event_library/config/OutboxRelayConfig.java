@@ -0,0 +1,76 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.producer.ProducerProfileRegistry;
+import com.pulse.event_library.relay.OutboxRelay;
+import com.pulse.event_library.retry.AsyncRetryExecutor;
+import com.pulse.event_library.service.OutboxPublishService;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.tracing.OutboxTracing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Outbox 릴레이의 설정을 담당합니다.
+ * pulse.outbox.relay.enabled=true 인 경우에만 릴레이를 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxRelayProperties.class)
+@ConditionalOnProperty(prefix = "pulse.outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelayConfig {
+
+    /**
+     * Outbox 릴레이를 설정합니다.
+     * 인스턴스 식별자가 지정되지 않은 경우 임의의 값을 사용합니다.
+     * 선점이 만료된 뒤 다른 인스턴스가 같은 행을 다시 선점하여 중복 발행하지 않도록,
+     * 한 행의 전송이 재시도를 포함해 끝날 수 있는 최대 시간(delivery.timeout.ms x 시도 횟수 + 재시도 대기)이 leaseTime 이상이면 기동하지 않습니다.
+     *
+     * @param properties              릴레이 설정 값
+     * @param outboxService           Outbox 서비스
+     * @param outboxPublishService    Outbox 이벤트 발행 서비스
+     * @param outboxTracing           Outbox 트레이싱
+     * @param producerProfileRegistry 프로듀서 프로필 레지스트리 (전송 제한 시간을 가져옴)
+     * @param kafkaSendRetryExecutor  Kafka 전송 재시도 실행기 (재시도 정책을 가져옴)
+     * @return Outbox 릴레이
+     */
+    @Bean
+    public OutboxRelay outboxRelay(OutboxRelayProperties properties,
+                                   OutboxService outboxService,
+                                   OutboxPublishService outboxPublishService,
+                                   OutboxTracing outboxTracing,
+                                   ProducerProfileRegistry producerProfileRegistry,
+                                   AsyncRetryExecutor kafkaSendRetryExecutor) {
+        Duration sendBudget = kafkaSendRetryExecutor.getRetryPolicy()
+                .maxTotalDuration(producerProfileRegistry.getMaxDeliveryTimeout());
+        if (sendBudget.compareTo(properties.getLeaseTime()) >= 0) {
+            throw new IllegalStateException("pulse.outbox.relay.lease-time (" + properties.getLeaseTime()
+                    + ") must be longer than the worst-case send time including retries (" + sendBudget
+                    + "), otherwise claimed rows can be re-claimed and published twice");
+        }
+
+        String claimerId = properties.getInstanceId() != null
+                ? properties.getInstanceId()
+                : UUID.randomUUID().toString();
+
+        return new OutboxRelay(
+                outboxService,
+                outboxPublishService,
+                claimerId,
+                properties.getShardCount(),
+                properties.getBatchSize(),
+                properties.getMinPollInterval(),
+                properties.getMaxPollInterval(),
+                properties.getGracePeriod(),
+                properties.getLeaseTime(),
+                properties.getMaxAttempts(),
+                properties.getShutdownTimeout(),
+                Thread.ofPlatform().name("outbox-relay-", 0).daemon(true).factory(),
+                outboxTracing
+        );
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox 릴레이의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.relay")
+public class OutboxRelayProperties {
+
+    // 릴레이 사용 여부
+    private boolean enabled = false;
+
+    // 선점 시 사용할 인스턴스 식별자 (미지정 시 임의의 값으로 생성)
+    private String instanceId;
+
+    // 샤드 수 (샤드마다 하나의 폴링 루프가 실행됩니다.)
+    private int shardCount = 1;
+
+    // 한 번에 선점할 최대 행 수
+    private int batchSize = 100;
+
+    // 백로그가 있을 때의 폴링 간격
+    private Duration minPollInterval = Duration.ofMillis(100);
+
+    // 유휴 상태일 때 늘어날 수 있는 최대 폴링 간격
+    private Duration maxPollInterval = Duration.ofSeconds(10);
+
+    // 생성 후 이 시간이 지난 행만 재발행 (AFTER_COMMIT 발행과의 중복 방지)
+    private Duration gracePeriod = Duration.ofSeconds(30);
+
+    // 선점 유지 시간 (한 행의 전송이 재시도를 포함해 최종 결과를 받기까지의 최대 시간보다 길어야 함)
+    private Duration leaseTime = Duration.ofMinutes(10);
+
+    // 행마다 재발행을 시도할 최대 횟수 (모두 실패하면 종료 상태로 변경)
+    private int maxAttempts = 10;
+
+    // 종료 시 발행 중인 페이지의 상태 변경을 기다리는 최대 시간
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void setInstanceId(String instanceId) {
+        this.instanceId = instanceId;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getMinPollInterval() {
+        return minPollInterval;
+    }
+
+    public void setMinPollInterval(Duration minPollInterval) {
+        this.minPollInterval = minPollInterval;
+    }
+
+    public Duration getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    public void setMaxPollInterval(Duration maxPollInterval) {
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    public Duration getGracePeriod() {
+        return gracePeriod;
+    }
+
+    public void setGracePeriod(Duration gracePeriod) {
+        this.gracePeriod = gracePeriod;
+    }
+
+    public Duration getLeaseTime() {
+        return leaseTime;
+    }
+
+    public void setLeaseTime(Duration leaseTime) {
+        this.leaseTime = leaseTime;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+}
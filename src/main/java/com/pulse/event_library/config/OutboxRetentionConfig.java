@@ -0,0 +1,46 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.retention.OutboxRetention;
+import com.pulse.event_library.service.OutboxService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox 테이블 보존 기간 정리의 설정을 담당합니다.
+ * pulse.outbox.retention.enabled=true 인 경우에만 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxRetentionProperties.class)
+@ConditionalOnProperty(prefix = "pulse.outbox.retention", name = "enabled", havingValue = "true")
+public class OutboxRetentionConfig {
+
+    /**
+     * 보존 기간이 지난 완료된 Outbox 행을 주기적으로 삭제하거나 보관 테이블로 옮기는 작업을 설정합니다.
+     *
+     * @param properties    보존 기간 정리 설정 값
+     * @param outboxService Outbox 서비스
+     * @param outboxMetrics Outbox 지표
+     * @return 보존 기간 정리 작업
+     */
+    @Bean
+    public OutboxRetention outboxRetention(OutboxRetentionProperties properties,
+                                           OutboxService outboxService,
+                                           OutboxMetrics outboxMetrics) {
+        return new OutboxRetention(
+                outboxService,
+                outboxMetrics,
+                properties.getMode() == OutboxRetentionProperties.Mode.ARCHIVE,
+                properties.getRetention(),
+                properties.getInterval(),
+                properties.getInitialDelay(),
+                properties.getChunkSize(),
+                properties.getMaxRowsPerSecond(),
+                properties.getShutdownTimeout(),
+                Thread.ofPlatform().name("outbox-retention").daemon(true).factory()
+        );
+    }
+
+}
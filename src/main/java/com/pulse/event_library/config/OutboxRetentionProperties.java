@@ -0,0 +1,106 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox 테이블 보존 기간 정리(OutboxRetention)의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.retention")
+public class OutboxRetentionProperties {
+
+    // 보존 기간 정리 사용 여부
+    private boolean enabled = false;
+
+    // 정리 방식 (PURGE: 삭제, ARCHIVE: 보관 테이블로 이동)
+    private Mode mode = Mode.PURGE;
+
+    // 완료된 행을 보존하는 기간 (처리 완료 시각 기준)
+    private Duration retention = Duration.ofDays(7);
+
+    // 정리 주기 (한 번의 정리가 끝난 뒤 다음 정리까지의 간격)
+    private Duration interval = Duration.ofMinutes(10);
+
+    // 기동 후 첫 정리까지 기다리는 시간
+    private Duration initialDelay = Duration.ofMinutes(1);
+
+    // 한 번의 SPI 호출(트랜잭션)에서 정리할 최대 행 수
+    private int chunkSize = 1000;
+
+    // 초당 정리할 최대 행 수 (0이면 제한하지 않음)
+    private int maxRowsPerSecond = 5000;
+
+    // 종료 시 진행 중인 정리(SPI 호출)가 끝나기를 기다리는 최대 시간
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxRowsPerSecond() {
+        return maxRowsPerSecond;
+    }
+
+    public void setMaxRowsPerSecond(int maxRowsPerSecond) {
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    public enum Mode {
+        PURGE,
+        ARCHIVE
+    }
+
+}
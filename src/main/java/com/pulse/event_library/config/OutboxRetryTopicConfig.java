@@ -0,0 +1,67 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.consumer.DeadLetterReplayService;
+import com.pulse.event_library.consumer.OutboxRetryTopicResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+/**
+ * 재시도 토픽 / DLT의 설정을 담당합니다.
+ * pulse.outbox.consumer.retry-topic.enabled=true 인 경우에만 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "pulse.outbox.consumer.retry-topic", name = "enabled", havingValue = "true")
+public class OutboxRetryTopicConfig {
+
+    /**
+     * 실패한 레코드를 보낼 재시도 토픽 / DLT를 결정하는 리졸버를 설정합니다.
+     *
+     * @param properties Outbox 리스너 설정 값
+     * @return 재시도 토픽 리졸버
+     */
+    @Bean
+    public OutboxRetryTopicResolver outboxRetryTopicResolver(OutboxConsumerProperties properties) {
+        OutboxConsumerProperties.RetryTopic retryTopic = properties.getRetryTopic();
+        return new OutboxRetryTopicResolver(retryTopic.getDelays(), retryTopic.getRetrySuffix(), retryTopic.getDltSuffix());
+    }
+
+    /**
+     * 실패한 레코드를 다음 재시도 토픽 / DLT로 옮기는 리커버러를 설정합니다.
+     * 원래 헤더(트레이스 컨텍스트 포함)는 유지하고, 다음 단계의 처리 예정 시각 헤더를 추가합니다.
+     *
+     * @param outboxRetryTopicResolver 재시도 토픽 리졸버
+     * @param kafkaTemplate            레코드를 옮길 때 사용할 Kafka 템플릿
+     * @return 재시도 토픽 / DLT 리커버러
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer outboxDeadLetterRecoverer(OutboxRetryTopicResolver outboxRetryTopicResolver,
+                                                                   KafkaTemplate<String, byte[]> kafkaTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate, outboxRetryTopicResolver::resolve);
+        recoverer.setHeadersFunction(outboxRetryTopicResolver::retryHeaders);
+        return recoverer;
+    }
+
+    /**
+     * DLT의 레코드를 원래 토픽으로 다시 발행하는 서비스를 설정합니다.
+     * 컨슈머 그룹은 리스너와 분리된 "{group-id}-dlt-replay"를 사용합니다.
+     *
+     * @param consumerFactory          Kafka 컨슈머 팩토리
+     * @param kafkaTemplate            Kafka 템플릿
+     * @param outboxRetryTopicResolver 재시도 토픽 리졸버
+     * @param groupId                  컨슈머 그룹 ID
+     * @return DLT 재발행 서비스
+     */
+    @Bean
+    public DeadLetterReplayService deadLetterReplayService(ConsumerFactory<String, byte[]> consumerFactory,
+                                                           KafkaTemplate<String, byte[]> kafkaTemplate,
+                                                           OutboxRetryTopicResolver outboxRetryTopicResolver,
+                                                           @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        return new DeadLetterReplayService(consumerFactory, kafkaTemplate, outboxRetryTopicResolver, groupId + "-dlt-replay");
+    }
+
+}
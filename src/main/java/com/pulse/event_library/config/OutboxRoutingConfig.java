@@ -0,0 +1,42 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.producer.ProducerProfileRegistry;
+import com.pulse.event_library.routing.OutboxTopicRouter;
+import com.pulse.event_library.service.OutboxService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Outbox 이벤트의 토픽 라우팅 설정을 담당합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxRoutingProperties.class)
+public class OutboxRoutingConfig {
+
+    /**
+     * 이벤트를 전송할 토픽을 결정하는 라우터를 설정합니다.
+     * 설정(pulse.outbox.routing.topics) -> @OutboxTopic -> OutboxService.getKafkaTopic 순서로 토픽을 찾습니다.
+     *
+     * @param properties              라우팅 설정 값
+     * @param outboxService           Outbox 서비스
+     * @param environment             @OutboxTopic 값의 플레이스홀더를 해석할 Environment
+     * @param producerProfileRegistry 파티션 수 조회에 사용할 프로듀서 프로필 레지스트리
+     * @return 토픽 라우터
+     */
+    @Bean
+    public OutboxTopicRouter outboxTopicRouter(OutboxRoutingProperties properties,
+                                               OutboxService outboxService,
+                                               Environment environment,
+                                               ProducerProfileRegistry producerProfileRegistry) {
+        return new OutboxTopicRouter(
+                properties.getTopics(),
+                outboxService,
+                properties.isCacheFallback(),
+                environment,
+                properties.isDescribeTopics() ? producerProfileRegistry.getDefaultTemplate() : null
+        );
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outbox 이벤트의 토픽 라우팅 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.routing")
+public class OutboxRoutingProperties {
+
+    // 이벤트 타입(OutboxEvent.getEventType)별 Kafka 토픽 (@OutboxTopic보다 우선)
+    private Map<String, String> topics = new LinkedHashMap<>();
+
+    // 설정과 @OutboxTopic으로 찾지 못해 OutboxService.getKafkaTopic을 호출한 결과를 이벤트 타입별로 캐시할지 여부
+    // (같은 이벤트 타입이라도 이벤트 내용에 따라 토픽이 달라지면 false로 설정)
+    private boolean cacheFallback = true;
+
+    // 기동 시 설정된 토픽의 파티션 수를 조회할지 여부 (토픽이 없으면 경고 로그를 남깁니다.)
+    private boolean describeTopics = false;
+
+    public Map<String, String> getTopics() {
+        return topics;
+    }
+
+    public void setTopics(Map<String, String> topics) {
+        this.topics = topics;
+    }
+
+    public boolean isCacheFallback() {
+        return cacheFallback;
+    }
+
+    public void setCacheFallback(boolean cacheFallback) {
+        this.cacheFallback = cacheFallback;
+    }
+
+    public boolean isDescribeTopics() {
+        return describeTopics;
+    }
+
+    public void setDescribeTopics(boolean describeTopics) {
+        this.describeTopics = describeTopics;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.status.OutboxStatusBuffer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 발행 후 상태 변경 쓰기 지연의 설정을 담당합니다.
+ * pulse.outbox.status-buffer.enabled=true 인 경우에만 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxStatusBufferProperties.class)
+@ConditionalOnProperty(prefix = "pulse.outbox.status-buffer", name = "enabled", havingValue = "true")
+public class OutboxStatusBufferConfig {
+
+    /**
+     * 발행 결과에 따른 처리 완료 / 실패 상태 변경을 모아서 한 번에 반영하는 버퍼를 설정합니다.
+     *
+     * @param properties    상태 변경 쓰기 지연 설정 값
+     * @param outboxService Outbox 서비스
+     * @param outboxMetrics Outbox 지표
+     * @return 상태 변경 버퍼
+     */
+    @Bean
+    public OutboxStatusBuffer outboxStatusBuffer(OutboxStatusBufferProperties properties,
+                                                 OutboxService outboxService,
+                                                 OutboxMetrics outboxMetrics) {
+        return new OutboxStatusBuffer(
+                outboxService,
+                outboxMetrics,
+                properties.getFlushSize(),
+                properties.getFlushInterval(),
+                properties.getMaxPending(),
+                Thread.ofPlatform().name("outbox-status-flusher").daemon(true).factory()
+        );
+    }
+
+}
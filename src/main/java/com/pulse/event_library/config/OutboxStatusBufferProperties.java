@@ -0,0 +1,57 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 발행 후 상태 변경 쓰기 지연(OutboxStatusBuffer)의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.status-buffer")
+public class OutboxStatusBufferProperties {
+
+    // 상태 변경 쓰기 지연 사용 여부
+    private boolean enabled = false;
+
+    // 이 수만큼 상태 변경이 모이면 주기를 기다리지 않고 반영합니다.
+    private int flushSize = 500;
+
+    // 모인 상태 변경을 반영하는 주기
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    // 버퍼에 담을 수 있는 최대 상태 변경 수 (초과하면 발행 완료 스레드에서 바로 반영합니다.)
+    private int maxPending = 50_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    public void setFlushSize(int flushSize) {
+        this.flushSize = flushSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.tracing.OutboxTracing;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox 파이프라인의 트레이싱 설정을 담당합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxTracingProperties.class)
+public class OutboxTracingConfig {
+
+    /**
+     * Outbox 트레이싱을 설정합니다.
+     * 애플리케이션에 OpenTelemetry 빈이 있으면 사용하고, 없으면 GlobalOpenTelemetry(에이전트 등)를 사용합니다.
+     *
+     * @param properties    트레이싱 설정 값
+     * @param openTelemetry OpenTelemetry 빈 (선택)
+     * @return Outbox 트레이싱
+     */
+    @Bean
+    public OutboxTracing outboxTracing(OutboxTracingProperties properties, ObjectProvider<OpenTelemetry> openTelemetry) {
+        return new OutboxTracing(
+                openTelemetry.getIfAvailable(GlobalOpenTelemetry::get),
+                properties.getMode(),
+                properties.getSampleRatio()
+        );
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.tracing.OutboxTracing;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Outbox 파이프라인의 트레이싱 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.tracing")
+public class OutboxTracingProperties {
+
+    // 트레이싱 모드 (FULL: 저장/발행/전송 Span, LIGHT: 발행 Span + 배치 Span, OFF: 생성하지 않음)
+    private OutboxTracing.Mode mode = OutboxTracing.Mode.FULL;
+
+    // Outbox Span을 생성할 이벤트의 비율 (0.0 ~ 1.0)
+    private double sampleRatio = 1.0;
+
+    public OutboxTracing.Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(OutboxTracing.Mode mode) {
+        this.mode = mode;
+    }
+
+    public double getSampleRatio() {
+        return sampleRatio;
+    }
+
+    public void setSampleRatio(double sampleRatio) {
+        this.sampleRatio = sampleRatio;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.pulse.event_library.config;
+
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.OutboxTransactionalPublisher;
+import com.pulse.event_library.retry.AsyncRetryExecutor;
+import com.pulse.event_library.service.KafkaProducerService;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.tracing.OutboxTracing;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 트랜잭션 발행 모드의 설정을 담당합니다.
+ * pulse.outbox.transaction.enabled=true 인 경우에만 등록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxTransactionProperties.class)
+@ConditionalOnProperty(prefix = "pulse.outbox.transaction", name = "enabled", havingValue = "true")
+public class OutboxTransactionConfig {
+
+    /**
+     * 여러 Outbox 이벤트를 하나의 Kafka 트랜잭션으로 묶어 발행하는 발행기를 설정합니다.
+     *
+     * 기본 프로듀서 팩토리의 설정에 멱등성(enable.idempotence=true, acks=all)과 transactional.id 접두사를 더한 별도의 프로듀서 팩토리를 사용합니다.
+     * 인스턴스끼리 서로 펜싱하지 않도록 접두사 뒤에 인스턴스 식별자(미지정 시 임의의 값)를 붙입니다.
+     * 트랜잭션 Kafka 템플릿은 빈으로 등록하지 않습니다. (KafkaTemplate을 타입으로 주입받는 다른 빈에 영향을 주지 않기 위함)
+     * 이 모드에서는 이벤트 타입별 프로듀서 프로필을 사용하지 않으며, 트랜잭션 재시도에는 프로듀서 재시도 정책을 사용합니다.
+     *
+     * @param properties             트랜잭션 발행 설정 값
+     * @param producerFactory        기본 프로듀서 팩토리 (공통 설정을 가져옴)
+     * @param kafkaProducerService   Kafka 전송 서비스
+     * @param outboxService          Outbox 서비스
+     * @param outboxMetrics          Outbox 지표
+     * @param outboxTracing          Outbox 트레이싱
+     * @param kafkaSendRetryExecutor Kafka 전송 재시도 실행기 (재시도 정책을 가져옴)
+     * @return 트랜잭션 발행기
+     */
+    @Bean
+    public OutboxTransactionalPublisher outboxTransactionalPublisher(OutboxTransactionProperties properties,
+                                                                     ProducerFactory<String, byte[]> producerFactory,
+                                                                     KafkaProducerService kafkaProducerService,
+                                                                     OutboxService outboxService,
+                                                                     OutboxMetrics outboxMetrics,
+                                                                     OutboxTracing outboxTracing,
+                                                                     AsyncRetryExecutor kafkaSendRetryExecutor) {
+        // 1. 공통 설정에 멱등성 / 트랜잭션 설정을 더한 프로듀서 팩토리를 생성합니다.
+        Map<String, Object> configProps = new HashMap<>(producerFactory.getConfigurationProperties());
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.TRANSACTION_TIMEOUT_CONFIG, (int) properties.getTransactionTimeout().toMillis());
+        DefaultKafkaProducerFactory<String, byte[]> transactionalFactory = new DefaultKafkaProducerFactory<>(configProps);
+        String instanceId = properties.getInstanceId() != null
+                ? properties.getInstanceId()
+                : UUID.randomUUID().toString();
+        transactionalFactory.setTransactionIdPrefix(properties.getTransactionIdPrefix() + instanceId + "-");
+
+        // 2. 트랜잭션 Kafka 템플릿으로 발행기를 생성합니다.
+        return new OutboxTransactionalPublisher(
+                new KafkaTemplate<>(transactionalFactory),
+                kafkaProducerService,
+                outboxService,
+                outboxMetrics,
+                outboxTracing,
+                kafkaSendRetryExecutor.getRetryPolicy(),
+                properties.getMaxBatchSize(),
+                properties.getMaxBatchDelay(),
+                properties.getQueueCapacity(),
+                properties.getOfferTimeout(),
+                Thread.ofPlatform().name("outbox-transaction-publisher").daemon(true).factory()
+        );
+    }
+
+}
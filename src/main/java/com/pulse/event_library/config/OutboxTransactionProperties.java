@@ -0,0 +1,103 @@
+package com.pulse.event_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 트랜잭션 발행 모드(OutboxTransactionalPublisher)의 설정 값입니다.
+ */
+@ConfigurationProperties(prefix = "pulse.outbox.transaction")
+public class OutboxTransactionProperties {
+
+    // 트랜잭션 발행 모드 사용 여부
+    private boolean enabled = false;
+
+    // 트랜잭션 프로듀서의 transactional.id 접두사 (뒤에 instance-id가 붙습니다. ex. pulse-outbox-tx-{instance-id}-0)
+    private String transactionIdPrefix = "pulse-outbox-tx-";
+
+    // transactional.id에 붙일 인스턴스 식별자 (미지정 시 임의의 값으로 생성)
+    // 같은 transactional.id를 쓰는 인스턴스끼리는 서로의 프로듀서를 펜싱하므로 인스턴스마다 달라야 하며,
+    // 재시작 전후로 같은 값(ex. 파드 이름)을 지정하면 재시작 전에 끝나지 않은 트랜잭션을 바로 중단시킬 수 있습니다.
+    private String instanceId;
+
+    // 한 트랜잭션에 담을 최대 이벤트 수
+    private int maxBatchSize = 500;
+
+    // 첫 이벤트를 받은 뒤 트랜잭션을 시작하기 전까지 이벤트를 모으는 최대 시간
+    private Duration maxBatchDelay = Duration.ofMillis(20);
+
+    // 트랜잭션을 기다리는 이벤트를 담는 큐의 크기
+    private int queueCapacity = 10_000;
+
+    // 큐가 가득 찼을 때 빈 자리를 기다리는 최대 시간 (초과하면 이벤트를 실패 상태로 변경합니다.)
+    private Duration offerTimeout = Duration.ofSeconds(5);
+
+    // 브로커가 트랜잭션을 중단하기 전까지 기다리는 최대 시간 (transaction.timeout.ms)
+    private Duration transactionTimeout = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getTransactionIdPrefix() {
+        return transactionIdPrefix;
+    }
+
+    public void setTransactionIdPrefix(String transactionIdPrefix) {
+        this.transactionIdPrefix = transactionIdPrefix;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void setInstanceId(String instanceId) {
+        this.instanceId = instanceId;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getMaxBatchDelay() {
+        return maxBatchDelay;
+    }
+
+    public void setMaxBatchDelay(Duration maxBatchDelay) {
+        this.maxBatchDelay = maxBatchDelay;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getOfferTimeout() {
+        return offerTimeout;
+    }
+
+    public void setOfferTimeout(Duration offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+
+    public Duration getTransactionTimeout() {
+        return transactionTimeout;
+    }
+
+    public void setTransactionTimeout(Duration transactionTimeout) {
+        this.transactionTimeout = transactionTimeout;
+    }
+
+}
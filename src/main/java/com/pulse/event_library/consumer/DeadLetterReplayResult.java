@@ -0,0 +1,17 @@
+package com.pulse.event_library.consumer;
+
+/**
+ * DeadLetterReplayService.replay의 결과입니다.
+ * 파티션마다 앞에서부터 연속으로 다시 발행한 레코드까지만 오프셋을 커밋하므로,
+ * 발행에 실패한 레코드와 그 뒤의 레코드(skipped)는 다음 호출에서 다시 읽습니다.
+ *
+ * @param replayed 다시 발행하고 오프셋을 커밋한 레코드 수
+ * @param failed   다시 발행에 실패한 레코드 수
+ * @param skipped  발행에 성공했지만 같은 파티션의 앞선 레코드가 실패하여 오프셋을 커밋하지 않은 레코드 수 (다음 호출에서 중복 발행)
+ */
+public record DeadLetterReplayResult(
+        int replayed,
+        int failed,
+        int skipped
+) {
+}
@@ -0,0 +1,193 @@
+package com.pulse.event_library.consumer;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * DLT에 쌓인 레코드를 원래 토픽으로 다시 발행합니다.
+ * 원래 헤더(트레이스 컨텍스트 포함)는 유지하고, DLT 전송 시 추가된 예외 정보/재시도 헤더만 제거합니다.
+ * 파티션마다 앞에서부터 연속으로 다시 발행한 레코드까지만 오프셋을 커밋하므로, 커밋한 레코드는 두 번 재발행되지 않습니다.
+ * 발행에 실패한 레코드부터는 다음 호출에서 다시 읽습니다. (실패한 레코드 뒤에 발행에 성공한 레코드는 중복 발행될 수 있습니다.)
+ * 호출 시점의 끝 오프셋까지만 읽으므로, 재발행 중에 DLT로 다시 들어온 레코드는 다음 호출에서 처리합니다.
+ */
+public class DeadLetterReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterReplayService.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    // 끝 오프셋에 도달하지 않았는데도 레코드를 받지 못한 경우 중단하기까지의 poll 횟수
+    private static final int MAX_EMPTY_POLLS = 10;
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxRetryTopicResolver retryTopicResolver;
+    private final String replayGroupId;
+
+    public DeadLetterReplayService(ConsumerFactory<String, byte[]> consumerFactory,
+                                   KafkaTemplate<String, byte[]> kafkaTemplate,
+                                   OutboxRetryTopicResolver retryTopicResolver,
+                                   String replayGroupId) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.retryTopicResolver = retryTopicResolver;
+        this.replayGroupId = replayGroupId;
+    }
+
+    /**
+     * DLT의 레코드를 최대 maxRecords개까지 원래 토픽으로 다시 발행합니다.
+     *
+     * @param dltTopic   DLT 토픽 이름
+     * @param maxRecords 다시 발행할 최대 레코드 수
+     * @return 다시 발행하고 오프셋을 커밋한 레코드 수와 실패한 레코드 수
+     */
+    public DeadLetterReplayResult replay(String dltTopic, int maxRecords) {
+        // 오프셋은 다시 발행한 레코드까지만 직접 커밋합니다.
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(replayGroupId, null, "-dlt-replay", overrides)) {
+            // 1. 그룹 리밸런스를 기다리지 않도록 DLT의 모든 파티션을 직접 할당하고,
+            //    커밋된 오프셋(처음 실행할 때는 처음)부터 호출 시점의 끝 오프셋까지만 읽습니다.
+            List<TopicPartition> partitions = consumer.partitionsFor(dltTopic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            if (partitions.isEmpty()) {
+                return new DeadLetterReplayResult(0, 0, 0);
+            }
+            consumer.assign(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+            List<TopicPartition> uncommitted = new ArrayList<>();
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset != null) {
+                    consumer.seek(partition, offset);
+                } else {
+                    uncommitted.add(partition);
+                }
+            }
+            consumer.seekToBeginning(uncommitted);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            // 파티션마다 발행 순서대로 (오프셋, 발행 결과)를 기록합니다.
+            Map<TopicPartition, List<ReplayedRecord>> replayed = new LinkedHashMap<>();
+            int sent = 0;
+
+            // 2. 모든 파티션이 끝 오프셋에 도달하거나 최대 개수에 도달할 때까지 DLT를 읽으면서 원래 토픽으로 발행합니다.
+            int emptyPolls = 0;
+            while (sent < maxRecords && !reachedEnd(consumer, endOffsets)) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    if (++emptyPolls >= MAX_EMPTY_POLLS) {
+                        log.warn("No records from dead letter topic [{}] for {} polls before reaching the end offsets", dltTopic, emptyPolls);
+                        break;
+                    }
+                    continue;
+                }
+                emptyPolls = 0;
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (sent >= maxRecords) {
+                        break;
+                    }
+                    replayed.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), tp -> new ArrayList<>())
+                            .add(new ReplayedRecord(record.offset(), kafkaTemplate.send(toReplayRecord(record))));
+                    sent++;
+                }
+            }
+
+            // 3. 모든 발행이 끝난 뒤 파티션마다 앞에서부터 연속으로 성공한 레코드까지만 오프셋을 커밋합니다.
+            //    (하나가 실패해도 다른 파티션과 앞선 레코드는 다음 호출에서 다시 발행되지 않도록)
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            int committedCount = 0;
+            int failed = 0;
+            int skipped = 0;
+            for (Map.Entry<TopicPartition, List<ReplayedRecord>> entry : replayed.entrySet()) {
+                boolean contiguous = true;
+                for (ReplayedRecord record : entry.getValue()) {
+                    try {
+                        record.future().join();
+                    } catch (CompletionException e) {
+                        failed++;
+                        if (contiguous) {
+                            log.warn("Failed to replay record [{}@{}] from dead letter topic [{}]; later records of the partition are left for the next replay",
+                                    entry.getKey(), record.offset(), dltTopic, e.getCause());
+                        }
+                        contiguous = false;
+                        continue;
+                    }
+                    if (contiguous) {
+                        offsets.put(entry.getKey(), new OffsetAndMetadata(record.offset() + 1));
+                        committedCount++;
+                    } else {
+                        skipped++;
+                    }
+                }
+            }
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+
+            if (failed > 0) {
+                log.warn("Replayed {} records from dead letter topic [{}], {} failed, {} left for the next replay after a failure",
+                        committedCount, dltTopic, failed, skipped);
+            } else {
+                log.info("Replayed {} records from dead letter topic [{}]", committedCount, dltTopic);
+            }
+            return new DeadLetterReplayResult(committedCount, failed, skipped);
+        }
+    }
+
+    private boolean reachedEnd(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> endOffsets) {
+        for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            if (consumer.position(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ProducerRecord<String, byte[]> toReplayRecord(ConsumerRecord<String, byte[]> record) {
+        // 1. DLT 전송 시 기록된 원래 토픽으로 보냅니다. (헤더가 없으면 토픽 이름에서 추출)
+        Header originalTopic = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        String topic = retryTopicResolver.baseTopicOf(originalTopic != null
+                ? new String(originalTopic.value(), StandardCharsets.UTF_8)
+                : record.topic());
+
+        // 2. 예외 정보/재시도 헤더를 제외한 원래 헤더를 유지합니다.
+        ProducerRecord<String, byte[]> replay = new ProducerRecord<>(topic, record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX)
+                    && !header.key().equals(OutboxRetryTopicResolver.RETRY_DUE_AT_HEADER)) {
+                replay.headers().add(header);
+            }
+        }
+        return replay;
+    }
+
+    private record ReplayedRecord(long offset, CompletableFuture<SendResult<String, byte[]>> future) {
+    }
+
+}
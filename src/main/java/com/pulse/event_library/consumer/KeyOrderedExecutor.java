@@ -0,0 +1,78 @@
+package com.pulse.event_library.consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 단위로 순서를 보장하면서 여러 키를 병렬로 처리하는 실행기입니다.
+ * 키의 해시로 고정된 레인(단일 스레드 실행기)을 선택하므로 같은 키의 작업은 제출된 순서대로 실행되고,
+ * 다른 키의 작업은 다른 레인에서 동시에 실행됩니다.
+ * 대기 중인 작업 수는 maxInFlight로 제한하며, 초과하면 제출하는 스레드(컨슈머 스레드)가 대기합니다.
+ */
+public class KeyOrderedExecutor implements DisposableBean {
+
+    private final ExecutorService[] lanes;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    public KeyOrderedExecutor(int concurrency, int maxInFlight, ThreadFactory threadFactory) {
+        this.lanes = new ExecutorService[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            // 스레드는 레인에 처음 작업이 제출될 때 생성됩니다.
+            this.lanes[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * 키에 해당하는 레인에 작업을 제출합니다.
+     *
+     * @param key          순서를 보장할 키 (null이면 fallbackHash로 레인을 선택)
+     * @param fallbackHash 키가 없을 때 레인 선택에 사용할 값 (ex. 오프셋)
+     * @param task         실행할 작업
+     */
+    public void execute(Object key, long fallbackHash, Runnable task) {
+        inFlight.acquireUninterruptibly();
+        int hash = key != null ? key.hashCode() : Long.hashCode(fallbackHash);
+        ExecutorService lane = lanes[Math.floorMod(hash, lanes.length)];
+        try {
+            lane.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    // 처리 중이거나 대기 중인 작업 수
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * 대기 중인 작업을 모두 처리한 뒤 레인을 종료합니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            if (!lane.awaitTermination(30, TimeUnit.SECONDS)) {
+                lane.shutdownNow();
+            }
+        }
+    }
+
+}
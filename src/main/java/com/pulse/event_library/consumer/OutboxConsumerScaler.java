@@ -0,0 +1,291 @@
+package com.pulse.event_library.consumer;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * 컨슈머 그룹의 지연(lag)에 따라 리스너 컨테이너의 컨슈머 스레드 수를 조정합니다.
+ *
+ * interval마다 리스너가 구독하는 토픽의 파티션별 마지막 오프셋과 그룹의 커밋된 오프셋을 AdminClient로 조회하여 지연을 계산하고,
+ * 이 인스턴스에 할당된 파티션의 지연 lagPerConsumer건당 스레드 하나를 목표로
+ * [minConcurrency, min(maxConcurrency, 파티션 수)] 범위에서 스레드 수를 정합니다.
+ * 스레드 수를 늘리는 경우에는 바로 적용하고, 줄이는 경우에는 마지막 변경 후 scaleDownCooldown이 지난 뒤에 적용합니다.
+ * (스레드 수는 컨테이너를 재시작해야 적용되므로, 잦은 리밸런싱을 막기 위함)
+ *
+ * 여러 인스턴스가 같은 그룹으로 수신하는 경우 각 인스턴스는 할당받은 파티션의 지연만으로 목표 값을 계산하므로,
+ * 그룹 전체의 스레드 수가 (그룹 전체의 지연 / lagPerConsumer)를 따릅니다.
+ * 리밸런싱 중(그룹 상태가 STABLE이 아닌 경우)에는 할당이 확정되지 않았으므로 조정하지 않습니다.
+ */
+public class OutboxConsumerScaler implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxConsumerScaler.class);
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final Map<String, Object> adminConfigs;
+    private final List<String> listenerIds;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final long lagPerConsumer;
+    private final Duration interval;
+    private final long scaleDownCooldownNanos;
+    private final Duration requestTimeout;
+    private final ThreadFactory threadFactory;
+
+    // 리스너 id별 마지막 조회 결과
+    private final ConcurrentMap<String, ListenerLag> lags = new ConcurrentHashMap<>();
+    // 리스너 id별 마지막으로 스레드 수를 바꾼 시각(ns)
+    private final Map<String, Long> lastScaledNanos = new HashMap<>();
+
+    private Admin admin;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    /**
+     * @param registry          리스너 컨테이너 레지스트리
+     * @param adminConfigs      AdminClient 설정
+     * @param listenerIds       조정할 리스너 id 목록
+     * @param minConcurrency    최소 스레드 수
+     * @param maxConcurrency    최대 스레드 수
+     * @param lagPerConsumer    스레드 하나가 맡을 지연 건수
+     * @param interval          지연을 조회하는 간격
+     * @param scaleDownCooldown 스레드 수를 바꾼 뒤 줄이기 전까지 기다리는 시간
+     * @param requestTimeout    AdminClient 요청의 최대 대기 시간
+     * @param threadFactory     조회 스레드를 생성할 ThreadFactory
+     */
+    public OutboxConsumerScaler(KafkaListenerEndpointRegistry registry,
+                                Map<String, Object> adminConfigs,
+                                List<String> listenerIds,
+                                int minConcurrency,
+                                int maxConcurrency,
+                                long lagPerConsumer,
+                                Duration interval,
+                                Duration scaleDownCooldown,
+                                Duration requestTimeout,
+                                ThreadFactory threadFactory) {
+        this.registry = registry;
+        this.adminConfigs = Map.copyOf(adminConfigs);
+        this.listenerIds = List.copyOf(listenerIds);
+        this.minConcurrency = Math.max(1, minConcurrency);
+        this.maxConcurrency = Math.max(this.minConcurrency, maxConcurrency);
+        this.lagPerConsumer = Math.max(1, lagPerConsumer);
+        this.interval = interval;
+        this.scaleDownCooldownNanos = scaleDownCooldown.toNanos();
+        this.requestTimeout = requestTimeout;
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        admin = Admin.create(adminConfigs);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::scaleAll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                scheduler.awaitTermination(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (admin != null) {
+            admin.close(requestTimeout);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 조정하는 리스너 id 목록
+    public List<String> getListenerIds() {
+        return listenerIds;
+    }
+
+    /**
+     * 리스너의 마지막으로 조회한 그룹 전체의 지연 건수 (조회하지 않았으면 -1)
+     */
+    public long getLag(String listenerId) {
+        ListenerLag lag = lags.get(listenerId);
+        return lag != null ? lag.lag() : -1L;
+    }
+
+    /**
+     * 리스너 컨테이너의 현재 스레드 수 (실행 중이 아니면 0)
+     */
+    public int getConcurrency(String listenerId) {
+        return registry.getListenerContainer(listenerId) instanceof ConcurrentMessageListenerContainer<?, ?> container
+                && container.isRunning() ? container.getConcurrency() : 0;
+    }
+
+    private void scaleAll() {
+        for (String listenerId : listenerIds) {
+            if (!running) {
+                return;
+            }
+            try {
+                scale(listenerId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to measure consumer lag of listener [{}]: {}", listenerId, e.getMessage());
+            }
+        }
+    }
+
+    private void scale(String listenerId) throws Exception {
+        // 1. 실행 중인 컨테이너만 조정합니다. (모드에 따라 기동하지 않은 리스너 제외)
+        MessageListenerContainer listenerContainer = registry.getListenerContainer(listenerId);
+        if (!(listenerContainer instanceof ConcurrentMessageListenerContainer<?, ?> container) || !container.isRunning()) {
+            return;
+        }
+
+        // 2. 그룹의 지연과 구독하는 파티션 수를 조회하고 목표 스레드 수를 계산합니다.
+        //    리밸런싱 중에는 이 인스턴스에 할당된 파티션이 확정되지 않았으므로 다음 조회까지 기다립니다.
+        ListenerLag lag = measure(container);
+        lags.put(listenerId, lag);
+        if (!lag.stable()) {
+            return;
+        }
+        int current = container.getConcurrency();
+        int target = targetConcurrency(lag);
+        if (target == current) {
+            return;
+        }
+
+        // 3. 늘리는 경우에는 바로, 줄이는 경우에는 마지막 변경 후 scaleDownCooldown이 지난 뒤에 적용합니다.
+        long now = System.nanoTime();
+        Long lastScaled = lastScaledNanos.get(listenerId);
+        if (target < current && lastScaled != null && now - lastScaled < scaleDownCooldownNanos) {
+            return;
+        }
+        log.info("Scaling outbox listener [{}] concurrency {} -> {} (assignedLag={}, assignedPartitions={}, lag={}, partitions={})",
+                listenerId, current, target, lag.assignedLag(), lag.assignedPartitions(), lag.lag(), lag.partitions());
+        container.stop();
+        container.setConcurrency(target);
+        if (running) {
+            container.start();
+        }
+        lastScaledNanos.put(listenerId, now);
+    }
+
+    private int targetConcurrency(ListenerLag lag) {
+        long byLag = (lag.assignedLag() + lagPerConsumer - 1) / lagPerConsumer;
+        int target = (int) Math.max(minConcurrency, Math.min(maxConcurrency, byLag));
+        return lag.partitions() > 0 ? Math.min(target, lag.partitions()) : target;
+    }
+
+    /**
+     * 컨테이너가 구독하는 토픽의 파티션 수와 그룹의 지연(마지막 오프셋 - 커밋된 오프셋의 합)을 조회합니다.
+     * 그룹 전체의 지연과 함께 이 인스턴스에 할당된 파티션의 지연을 따로 합산합니다.
+     * 커밋된 오프셋이 없는 파티션은 지연에 포함하지 않습니다.
+     */
+    private ListenerLag measure(ConcurrentMessageListenerContainer<?, ?> container)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        long timeout = requestTimeout.toMillis();
+
+        // 1. 구독하는 토픽의 파티션을 조회합니다.
+        Collection<String> topics = subscribedTopics(container.getContainerProperties());
+        if (topics.isEmpty()) {
+            return new ListenerLag(0L, 0, 0L, 0, true);
+        }
+        Map<String, TopicDescription> descriptions = admin.describeTopics(topics).allTopicNames().get(timeout, TimeUnit.MILLISECONDS);
+        Map<TopicPartition, OffsetSpec> latest = new LinkedHashMap<>();
+        for (TopicDescription description : descriptions.values()) {
+            for (TopicPartitionInfo partition : description.partitions()) {
+                latest.put(new TopicPartition(description.name(), partition.partition()), OffsetSpec.latest());
+            }
+        }
+
+        // 2. 파티션별 마지막 오프셋과 그룹의 커밋된 오프셋, 그룹 상태를 조회합니다.
+        String groupId = container.getGroupId();
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets =
+                admin.listOffsets(latest).all().get(timeout, TimeUnit.MILLISECONDS);
+        Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata().get(timeout, TimeUnit.MILLISECONDS);
+        ConsumerGroupDescription group = admin.describeConsumerGroups(List.of(groupId)).describedGroups().get(groupId)
+                .get(timeout, TimeUnit.MILLISECONDS);
+        Collection<TopicPartition> assigned = container.getAssignedPartitions();
+        Set<TopicPartition> assignedPartitions = assigned != null ? new HashSet<>(assigned) : Set.of();
+
+        // 3. 파티션별 지연을 그룹 전체와 이 인스턴스에 할당된 파티션으로 나누어 합산합니다.
+        long lag = 0L;
+        long assignedLag = 0L;
+        for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> entry : endOffsets.entrySet()) {
+            OffsetAndMetadata offset = committed.get(entry.getKey());
+            if (offset != null) {
+                long partitionLag = Math.max(0L, entry.getValue().offset() - offset.offset());
+                lag += partitionLag;
+                if (assignedPartitions.contains(entry.getKey())) {
+                    assignedLag += partitionLag;
+                }
+            }
+        }
+        return new ListenerLag(lag, latest.size(), assignedLag, assignedPartitions.size(),
+                group.state() == ConsumerGroupState.STABLE);
+    }
+
+    private Collection<String> subscribedTopics(ContainerProperties containerProperties)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        Pattern topicPattern = containerProperties.getTopicPattern();
+        if (topicPattern == null) {
+            String[] topics = containerProperties.getTopics();
+            return topics != null ? Arrays.asList(topics) : List.of();
+        }
+        List<String> topics = new ArrayList<>();
+        for (String topic : admin.listTopics().names().get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            if (topicPattern.matcher(topic).matches()) {
+                topics.add(topic);
+            }
+        }
+        return topics;
+    }
+
+    private record ListenerLag(long lag, int partitions, long assignedLag, int assignedPartitions, boolean stable) {
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.pulse.event_library.consumer;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Outbox 리스너 컨테이너 팩토리가 생성하는 컨테이너를 리스너(토픽 패턴)별로 설정합니다.
+ *
+ * - 가상 스레드 사용 시 컨테이너마다 가상 스레드로 컨슈머 스레드를 실행하는 실행기를 설정합니다.
+ *   (리스너에서 호출하는 OutboxKafkaService의 DB 호출이 플랫폼 스레드를 점유하지 않도록)
+ * - 컨테이너의 컨슈머 설정에 토픽 패턴별 설정을 덮어씁니다. (컨슈머 팩토리의 설정 -> 리스너의 설정 -> 토픽 패턴별 설정 순서로 우선)
+ *   토픽 패턴별 설정은 키가 컨테이너의 topicPattern과 같거나, 컨테이너가 구독하는 토픽 이름에 일치하면 적용합니다.
+ */
+public class OutboxListenerContainerCustomizer implements ContainerCustomizer<String, byte[], ConcurrentMessageListenerContainer<String, byte[]>> {
+
+    private final boolean virtualThreads;
+    private final List<FetchOverride> overrides;
+
+    /**
+     * @param virtualThreads     컨슈머 스레드를 가상 스레드로 실행할지 여부
+     * @param overridesByPattern 토픽 패턴별로 덮어쓸 컨슈머 설정
+     */
+    public OutboxListenerContainerCustomizer(boolean virtualThreads, Map<String, Properties> overridesByPattern) {
+        this.virtualThreads = virtualThreads;
+        List<FetchOverride> overrides = new ArrayList<>(overridesByPattern.size());
+        overridesByPattern.forEach((pattern, properties) -> overrides.add(new FetchOverride(pattern, Pattern.compile(pattern), properties)));
+        this.overrides = List.copyOf(overrides);
+    }
+
+    @Override
+    public void configure(ConcurrentMessageListenerContainer<String, byte[]> container) {
+        ContainerProperties containerProperties = container.getContainerProperties();
+
+        // 1. 컨테이너마다 가상 스레드 실행기를 설정합니다. (스레드 이름에 리스너 id를 포함)
+        if (virtualThreads && containerProperties.getListenerTaskExecutor() == null) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(container.getListenerId() + "-");
+            executor.setVirtualThreads(true);
+            containerProperties.setListenerTaskExecutor(executor);
+        }
+
+        // 2. 리스너의 설정 -> 일치하는 토픽 패턴의 설정 순서로 컨슈머 설정을 만듭니다. (컨슈머 팩토리의 설정보다 우선)
+        Properties merged = new Properties();
+        copy(containerProperties.getKafkaConsumerProperties(), merged);
+        for (FetchOverride override : overrides) {
+            if (override.matches(containerProperties)) {
+                copy(override.properties(), merged);
+            }
+        }
+        containerProperties.setKafkaConsumerProperties(merged);
+    }
+
+    /**
+     * 기본값(defaults)으로 지정된 문자열 설정까지 포함하여 복사합니다.
+     */
+    private static void copy(Properties source, Properties target) {
+        target.putAll(source);
+        for (String name : source.stringPropertyNames()) {
+            if (!source.containsKey(name)) {
+                target.setProperty(name, source.getProperty(name));
+            }
+        }
+    }
+
+    private record FetchOverride(String key, Pattern pattern, Properties properties) {
+
+        private boolean matches(ContainerProperties containerProperties) {
+            Pattern topicPattern = containerProperties.getTopicPattern();
+            if (topicPattern != null) {
+                return key.equals(topicPattern.pattern());
+            }
+            String[] topics = containerProperties.getTopics();
+            if (topics != null) {
+                for (String topic : topics) {
+                    if (pattern.matcher(topic).matches()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
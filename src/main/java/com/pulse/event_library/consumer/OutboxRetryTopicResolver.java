@@ -0,0 +1,123 @@
+package com.pulse.event_library.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 처리에 실패한 레코드를 보낼 재시도 토픽 / DLT를 결정합니다.
+ * 원래 토픽에서 실패하면 첫 번째 재시도 토픽으로, 재시도 토픽에서 실패하면 다음 단계로, 마지막 단계에서 실패하면 DLT로 보냅니다.
+ *
+ * 각 단계의 처리 예정 시각은 pulse_retry_due_at 헤더로 전달하며, 재시도 리스너는 이 시각이 될 때까지 처리를 미룹니다.
+ * 레코드를 옮길 때 원래의 헤더(트레이스 컨텍스트 포함)는 그대로 유지됩니다.
+ */
+public class OutboxRetryTopicResolver {
+
+    // 재시도 토픽에서 처리할 시각(epoch ms)을 담는 헤더
+    public static final String RETRY_DUE_AT_HEADER = "pulse_retry_due_at";
+
+    private final List<Duration> delays;
+    private final String retrySuffix;
+    private final String dltSuffix;
+    private final Pattern retryTopicPattern;
+
+    public OutboxRetryTopicResolver(List<Duration> delays, String retrySuffix, String dltSuffix) {
+        this.delays = List.copyOf(delays);
+        this.retrySuffix = retrySuffix;
+        this.dltSuffix = dltSuffix;
+        this.retryTopicPattern = Pattern.compile("^(.*)" + Pattern.quote(retrySuffix) + "-(\\d+)$");
+    }
+
+    /**
+     * 실패한 레코드를 보낼 토픽을 결정합니다. (파티션은 프로듀서가 결정하도록 -1을 사용합니다.)
+     *
+     * @param record 실패한 레코드
+     * @param ex     발생한 예외
+     * @return 다음 재시도 토픽 또는 DLT
+     */
+    public TopicPartition resolve(ConsumerRecord<?, ?> record, Exception ex) {
+        int nextTier = tierOf(record.topic()) + 1;
+        String baseTopic = baseTopicOf(record.topic());
+        String destination = nextTier < delays.size()
+                ? retryTopicOf(baseTopic, nextTier)
+                : dltTopicOf(baseTopic);
+        return new TopicPartition(destination, -1);
+    }
+
+    /**
+     * 재시도 토픽으로 옮기는 레코드에 추가할 헤더를 생성합니다.
+     *
+     * @param record 실패한 레코드
+     * @param ex     발생한 예외
+     * @return 다음 단계의 처리 예정 시각 헤더 (DLT로 옮기는 경우 빈 헤더)
+     */
+    public Headers retryHeaders(ConsumerRecord<?, ?> record, Exception ex) {
+        RecordHeaders headers = new RecordHeaders();
+        int nextTier = tierOf(record.topic()) + 1;
+        if (nextTier < delays.size()) {
+            long dueAt = System.currentTimeMillis() + delays.get(nextTier).toMillis();
+            headers.add(RETRY_DUE_AT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        }
+        return headers;
+    }
+
+    /**
+     * 재시도 토픽의 레코드를 처리하기까지 남은 시간을 계산합니다.
+     *
+     * @param record 재시도 토픽의 레코드
+     * @return 남은 시간(ms), 처리할 시각이 지났으면 0
+     */
+    public long remainingDelayMillis(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(RETRY_DUE_AT_HEADER);
+        if (header == null || header.value() == null || header.value().length != Long.BYTES) {
+            return 0L;
+        }
+        long dueAt = ByteBuffer.wrap(header.value()).getLong();
+        return Math.max(0L, dueAt - System.currentTimeMillis());
+    }
+
+    /**
+     * 토픽의 재시도 단계를 반환합니다.
+     *
+     * @param topic 토픽 이름
+     * @return 재시도 단계 (원래 토픽이면 -1)
+     */
+    public int tierOf(String topic) {
+        Matcher matcher = retryTopicPattern.matcher(topic);
+        return matcher.matches() ? Integer.parseInt(matcher.group(2)) : -1;
+    }
+
+    /**
+     * 재시도 토픽 / DLT 이름에서 원래 토픽 이름을 추출합니다.
+     *
+     * @param topic 토픽 이름
+     * @return 원래 토픽 이름
+     */
+    public String baseTopicOf(String topic) {
+        Matcher matcher = retryTopicPattern.matcher(topic);
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+        if (topic.endsWith(dltSuffix)) {
+            return topic.substring(0, topic.length() - dltSuffix.length());
+        }
+        return topic;
+    }
+
+    public String retryTopicOf(String baseTopic, int tier) {
+        return baseTopic + retrySuffix + "-" + tier;
+    }
+
+    public String dltTopicOf(String baseTopic) {
+        return baseTopic + dltSuffix;
+    }
+
+}
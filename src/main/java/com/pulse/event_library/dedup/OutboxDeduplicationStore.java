@@ -0,0 +1,25 @@
+package com.pulse.event_library.dedup;
+
+import java.util.Collection;
+
+/**
+ * 처리한 (토픽, outbox id)를 영구 저장소에 기록하는 SPI입니다.
+ * 메모리 캐시는 재시작하면 비워지므로, 재시작 이후에도 중복 처리를 막아야 하는 경우 빈으로 등록합니다.
+ * (ex. processed_outbox(topic, outbox_id) 테이블에 INSERT ... ON CONFLICT DO NOTHING)
+ *
+ * 메모리 캐시에서 찾지 못한 경우에만 조회하며, 조회 결과는 메모리 캐시에 기록됩니다.
+ */
+public interface OutboxDeduplicationStore {
+
+    // 이미 처리한 outbox id인지 확인
+    boolean isProcessed(String topic, long outboxId);
+
+    // 처리한 outbox id를 기록
+    void markProcessed(String topic, long outboxId);
+
+    // 처리한 여러 outbox id를 한 번에 기록 (bulk insert로 재정의 권장)
+    default void markProcessed(String topic, Collection<Long> outboxIds) {
+        outboxIds.forEach(id -> markProcessed(topic, id));
+    }
+
+}
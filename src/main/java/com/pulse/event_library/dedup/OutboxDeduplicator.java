@@ -0,0 +1,211 @@
+package com.pulse.event_library.dedup;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미 처리한 (토픽, outbox id)를 걸러내는 중복 처리 방지 캐시입니다.
+ *
+ * 조회 순서는 다음과 같습니다.
+ * 1. 블룸 필터(사용 시): 기록된 적이 없으면 캐시를 조회하지 않습니다.
+ * 2. 메모리 캐시: 최대 항목 수와 TTL로 크기가 제한되며, 구간별 잠금을 사용합니다.
+ * 3. 영구 저장소(등록된 경우): 재시작 이후에도 중복을 걸러내며, 찾은 항목은 메모리 캐시에 기록합니다.
+ *
+ * 항목은 상태 업데이트에 성공한 뒤에 기록해야 하며, 같은 레코드가 동시에 처리되는 경우까지 막지는 않습니다.
+ */
+public class OutboxDeduplicator {
+
+    private final Segment[] segments;
+    private final long ttlMillis;
+    private final RotatingBloomFilter bloomFilter;
+    private final OutboxDeduplicationStore store;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param maxSize     기억할 최대 항목 수
+     * @param ttlMillis   항목을 기억하는 시간(ms)
+     * @param segments    캐시를 나누는 구간 수
+     * @param bloomFilter 블룸 필터 (사용하지 않으면 null)
+     * @param store       영구 저장소 (사용하지 않으면 null)
+     */
+    OutboxDeduplicator(int maxSize, long ttlMillis, int segments, RotatingBloomFilter bloomFilter, OutboxDeduplicationStore store) {
+        int segmentSize = Math.max(1, maxSize / segments);
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment(segmentSize);
+        }
+        this.ttlMillis = ttlMillis;
+        this.bloomFilter = bloomFilter;
+        this.store = store;
+    }
+
+    /**
+     * 설정 값으로 중복 처리 방지 캐시를 생성합니다.
+     *
+     * @param maxSize                 기억할 최대 항목 수
+     * @param ttlMillis               항목을 기억하는 시간(ms)
+     * @param segments                캐시를 나누는 구간 수
+     * @param bloomExpectedInsertions 블룸 필터 한 세대의 예상 항목 수 (0 이하이면 블룸 필터를 사용하지 않음)
+     * @param bloomFalsePositiveRate  블룸 필터의 오탐률
+     * @param store                   영구 저장소 (사용하지 않으면 null)
+     * @return 중복 처리 방지 캐시
+     */
+    public static OutboxDeduplicator create(int maxSize,
+                                            long ttlMillis,
+                                            int segments,
+                                            int bloomExpectedInsertions,
+                                            double bloomFalsePositiveRate,
+                                            OutboxDeduplicationStore store) {
+        RotatingBloomFilter bloomFilter = bloomExpectedInsertions > 0
+                ? new RotatingBloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate, ttlMillis)
+                : null;
+        return new OutboxDeduplicator(maxSize, ttlMillis, segments, bloomFilter, store);
+    }
+
+    /**
+     * 이미 처리한 outbox id인지 확인합니다.
+     *
+     * @param topic    토픽 이름
+     * @param outboxId outbox id
+     * @return 이미 처리한 경우 true
+     */
+    public boolean isDuplicate(String topic, long outboxId) {
+        long hash = hash(topic, outboxId);
+
+        // 1. 메모리(블룸 필터 -> 캐시)에서 찾습니다.
+        if ((bloomFilter == null || bloomFilter.mightContain(hash))
+                && segmentFor(hash).contains(new Key(topic, outboxId), System.currentTimeMillis())) {
+            hitCount.increment();
+            return true;
+        }
+
+        // 2. 메모리에 없으면 영구 저장소에서 찾고, 찾은 항목은 메모리에 기록합니다.
+        if (store != null && store.isProcessed(topic, outboxId)) {
+            remember(topic, outboxId, hash);
+            hitCount.increment();
+            return true;
+        }
+
+        missCount.increment();
+        return false;
+    }
+
+    /**
+     * 처리한 outbox id를 기록합니다.
+     *
+     * @param topic    토픽 이름
+     * @param outboxId outbox id
+     */
+    public void markProcessed(String topic, long outboxId) {
+        remember(topic, outboxId, hash(topic, outboxId));
+        if (store != null) {
+            store.markProcessed(topic, outboxId);
+        }
+    }
+
+    /**
+     * 처리한 여러 outbox id를 한 번에 기록합니다.
+     *
+     * @param topic     토픽 이름
+     * @param outboxIds outbox id 목록
+     */
+    public void markProcessed(String topic, Collection<Long> outboxIds) {
+        for (Long outboxId : outboxIds) {
+            remember(topic, outboxId, hash(topic, outboxId));
+        }
+        if (store != null && !outboxIds.isEmpty()) {
+            store.markProcessed(topic, outboxIds);
+        }
+    }
+
+    // 중복으로 걸러낸 횟수 (상태 업데이트를 생략한 횟수)
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    // 처음 수신하여 처리한 횟수
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    // 메모리 캐시에 기억하고 있는 항목 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private void remember(String topic, long outboxId, long hash) {
+        if (bloomFilter != null) {
+            bloomFilter.put(hash);
+        }
+        segmentFor(hash).put(new Key(topic, outboxId), System.currentTimeMillis() + ttlMillis);
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[Math.floorMod((int) (hash ^ (hash >>> 32)), segments.length)];
+    }
+
+    private static long hash(String topic, long outboxId) {
+        // MurmurHash3 fmix64
+        long h = outboxId * 0x9E3779B97F4A7C15L ^ topic.hashCode();
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Key(String topic, long outboxId) {
+    }
+
+    /**
+     * 잠금으로 보호되는 캐시의 한 구간
+     * 모든 항목의 TTL이 같으므로 삽입 순서가 곧 만료 순서이며, 가장 오래된 항목부터 제거합니다.
+     */
+    private static final class Segment {
+
+        private final LinkedHashMap<Key, Long> entries;
+
+        private Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                    // 크기를 넘었거나 가장 오래된 항목이 만료된 경우 제거합니다.
+                    return size() > maxSize || eldest.getValue() <= System.currentTimeMillis();
+                }
+            };
+        }
+
+        private synchronized boolean contains(Key key, long now) {
+            Long expiresAt = entries.get(key);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt <= now) {
+                entries.remove(key);
+                return false;
+            }
+            return true;
+        }
+
+        private synchronized void put(Key key, long expiresAt) {
+            // 다시 기록한 항목은 맨 뒤로 옮겨 만료 순서를 유지합니다.
+            entries.remove(key);
+            entries.put(key, expiresAt);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+    }
+
+}
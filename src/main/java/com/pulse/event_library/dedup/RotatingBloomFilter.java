@@ -0,0 +1,101 @@
+package com.pulse.event_library.dedup;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 현재 / 이전 두 세대로 구성된 블룸 필터입니다.
+ * 한 세대에 기록한 항목 수가 예상 항목 수를 넘거나 세대의 수명이 지나면 현재 세대를 이전 세대로 옮기고 새 세대를 시작합니다.
+ * 따라서 기록한 항목은 최소 한 세대의 수명 동안 유지되며, 오래된 항목이 쌓여 오탐률이 계속 높아지지 않습니다.
+ *
+ * 잠금 없이 동작하며, 세대 교체 중에 기록된 항목을 놓치는 경우가 있습니다.
+ * 놓친 항목은 블룸 필터에서 없다고 판단되어 캐시를 조회하지 않으므로 중복으로 걸러지지 않지만,
+ * 이때도 상태 업데이트(멱등한 DB 쓰기)가 한 번 더 실행될 뿐 결과는 달라지지 않습니다. (영구 저장소를 사용하면 저장소에서 찾습니다.)
+ */
+class RotatingBloomFilter {
+
+    private final int expectedInsertions;
+    private final int bitCount;
+    private final int hashCount;
+    private final long generationMillis;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    RotatingBloomFilter(int expectedInsertions, double falsePositiveRate, long generationMillis) {
+        this.expectedInsertions = expectedInsertions;
+        // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(Long.SIZE, Math.min(bits, Integer.MAX_VALUE - Long.SIZE));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.generationMillis = generationMillis;
+        this.current = new Generation(bitCount, System.currentTimeMillis());
+        this.previous = new Generation(bitCount, System.currentTimeMillis());
+    }
+
+    boolean mightContain(long hash) {
+        return current.mightContain(hash, hashCount) || previous.mightContain(hash, hashCount);
+    }
+
+    void put(long hash) {
+        Generation generation = current;
+        if (generation.insertions.incrementAndGet() > expectedInsertions
+                || System.currentTimeMillis() - generation.createdAt > generationMillis) {
+            generation = rotate(generation);
+        }
+        generation.put(hash, hashCount);
+    }
+
+    private synchronized Generation rotate(Generation expired) {
+        // 다른 스레드가 이미 교체한 경우 새 세대를 그대로 사용합니다.
+        if (current == expired) {
+            previous = expired;
+            current = new Generation(bitCount, System.currentTimeMillis());
+        }
+        return current;
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+        private final long createdAt;
+        private final AtomicInteger insertions = new AtomicInteger();
+
+        private Generation(int bitCount, long createdAt) {
+            this.words = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+            this.bitCount = bitCount;
+            this.createdAt = createdAt;
+        }
+
+        private boolean mightContain(long hash, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(long hash, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                long word;
+                do {
+                    word = words.get(bit >>> 6);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(bit >>> 6, word, word | mask));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,306 @@
+package com.pulse.event_library.dispatcher;
+
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.service.OutboxPublishService;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커밋된 Outbox 이벤트를 제한된 크기의 큐에 담고, 워커 스레드들이 큐를 비우면서 Kafka로 발행합니다.
+ * AFTER_COMMIT 리스너가 브로커 응답을 기다리지 않도록 요청 스레드와 발행 작업을 분리합니다.
+ *
+ * 워커마다 자신의 큐(레인)를 가지며, 파티션 키가 있는 이벤트는 키의 해시로 레인을 정하므로
+ * 같은 키의 이벤트는 하나의 워커가 큐에 담긴 순서대로 발행합니다. (키가 없는 이벤트는 레인을 돌아가며 배정)
+ * 단, 큐가 가득 차서 호출 스레드에서 발행하거나(CALLER_RUNS) 발행을 생략한(DROP_TO_RELAY) 이벤트는 이 순서를 따르지 않습니다.
+ *
+ * 발행은 브로커 응답을 기다리지 않고 반환하므로, 상태 변경까지 끝나지 않은 발행 수를 maxInFlight로 제한합니다.
+ * 상한에 도달하면 워커가 이전 발행이 끝나기를 기다리므로 큐가 차고, 큐가 가득 차면 QueueFullPolicy가 적용됩니다.
+ */
+public class OutboxDispatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final long POLL_TIMEOUT_MILLIS = 200L;
+
+    private final OutboxPublishService outboxPublishService;
+    private final List<BlockingQueue<DispatchTask>> lanes;
+    private final AtomicInteger nextLane = new AtomicInteger();
+    private final int workerCount;
+    private final ThreadFactory threadFactory;
+    private final QueueFullPolicy queueFullPolicy;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    // 발행을 생략한 이벤트를 재발행할 OutboxRelay 사용 여부 (미사용 시 생략하지 않고 호출 스레드에서 발행)
+    private final boolean relayEnabled;
+
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder callerRunsCount = new LongAdder();
+    private volatile boolean running;
+
+    public OutboxDispatcher(OutboxPublishService outboxPublishService,
+                            int queueCapacity,
+                            int workerCount,
+                            ThreadFactory threadFactory,
+                            QueueFullPolicy queueFullPolicy,
+                            Duration offerTimeout,
+                            Duration shutdownTimeout,
+                            boolean relayEnabled,
+                            int maxInFlight) {
+        this.outboxPublishService = outboxPublishService;
+        this.workerCount = Math.max(1, workerCount);
+        // 전체 용량을 레인 수로 나누어 레인마다 큐를 만듭니다.
+        int laneCapacity = Math.max(1, (queueCapacity + this.workerCount - 1) / this.workerCount);
+        this.lanes = new ArrayList<>(this.workerCount);
+        for (int i = 0; i < this.workerCount; i++) {
+            lanes.add(new ArrayBlockingQueue<>(laneCapacity));
+        }
+        this.threadFactory = threadFactory;
+        this.queueFullPolicy = queueFullPolicy;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.relayEnabled = relayEnabled;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+    }
+
+    /**
+     * Outbox 이벤트를 레인의 큐에 넣습니다. 호출 시점의 트레이스 컨텍스트를 함께 보관하여 워커에서 이어서 사용합니다.
+     * 레인의 큐가 가득 찬 경우 설정된 QueueFullPolicy에 따라 처리합니다.
+     *
+     * @param event 발행할 Outbox 이벤트
+     */
+    public void dispatch(OutboxEvent event) {
+        DispatchTask task = new DispatchTask(event, Context.current());
+
+        // 1. 디스패처가 동작 중이 아니면(기동 전, 종료 중) 호출 스레드에서 직접 발행합니다.
+        if (!running) {
+            runOnCaller(task);
+            return;
+        }
+
+        // 2. 이벤트의 레인을 정하고, 큐에 빈 자리가 있으면 바로 넣고 반환합니다.
+        BlockingQueue<DispatchTask> queue = laneOf(event);
+        if (queue.offer(task)) {
+            return;
+        }
+
+        // 3. 큐가 가득 찬 경우 정책에 따라 처리합니다.
+        switch (queueFullPolicy) {
+            case BLOCK -> offerWithTimeout(queue, task);
+            case DROP_TO_RELAY -> drop(task);
+            case CALLER_RUNS -> runOnCaller(task);
+        }
+    }
+
+    /**
+     * 파티션 키가 있으면 키의 해시로, 없으면 돌아가며 레인을 정합니다.
+     */
+    private BlockingQueue<DispatchTask> laneOf(OutboxEvent event) {
+        String key = event.getPartitionKey();
+        int lane = key != null
+                ? Math.floorMod(key.hashCode(), workerCount)
+                : Math.floorMod(nextLane.getAndIncrement(), workerCount);
+        return lanes.get(lane);
+    }
+
+    private void offerWithTimeout(BlockingQueue<DispatchTask> queue, DispatchTask task) {
+        try {
+            if (!queue.offer(task, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                dropOrRunOnCaller(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropOrRunOnCaller(task);
+        }
+    }
+
+    /**
+     * 릴레이를 사용하면 발행을 생략하고, 그렇지 않으면 재발행할 주체가 없으므로 호출 스레드에서 발행합니다.
+     */
+    private void dropOrRunOnCaller(DispatchTask task) {
+        if (relayEnabled) {
+            drop(task);
+        } else {
+            runOnCaller(task);
+        }
+    }
+
+    private void drop(DispatchTask task) {
+        // Outbox 테이블에는 이미 커밋되어 있으므로 발행만 생략하고 미처리 상태로 남겨둡니다.
+        droppedCount.increment();
+        log.warn("Outbox dispatch queue is full, event [{}] is left unpublished in the outbox table", task.event().getId());
+    }
+
+    private void runOnCaller(DispatchTask task) {
+        callerRunsCount.increment();
+        execute(task);
+    }
+
+    private void execute(DispatchTask task) {
+        // 1. 발행 중인 이벤트가 maxInFlight개이면 하나가 끝날 때까지 기다립니다. (인터럽트되면 상한과 관계없이 발행)
+        boolean acquired;
+        try {
+            inFlight.acquire();
+            acquired = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        // 2. 발행하고, 상태 변경까지 끝나면 자리를 반환합니다.
+        publish(task, acquired);
+    }
+
+    private void publish(DispatchTask task, boolean acquired) {
+        boolean release = acquired;
+        try (Scope scope = task.context().makeCurrent()) {
+            CompletableFuture<Void> future = outboxPublishService.publish(task.event());
+            if (acquired) {
+                release = false;
+                future.whenComplete((result, ex) -> inFlight.release());
+            }
+        } catch (Exception e) {
+            log.error("Failed to publish outbox event [{}]", task.event().getId(), e);
+        } finally {
+            if (release) {
+                inFlight.release();
+            }
+        }
+    }
+
+    private void drain(BlockingQueue<DispatchTask> queue) {
+        // 종료 요청 후에도 큐에 남은 이벤트는 모두 발행한 뒤 종료합니다.
+        while (running || !queue.isEmpty()) {
+            try {
+                DispatchTask task = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    execute(task);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        synchronized (workers) {
+            if (running) {
+                return;
+            }
+            running = true;
+            for (BlockingQueue<DispatchTask> queue : lanes) {
+                Thread worker = threadFactory.newThread(() -> drain(queue));
+                workers.add(worker);
+                worker.start();
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        synchronized (workers) {
+            running = false;
+            long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+            for (Thread worker : workers) {
+                try {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining > 0) {
+                        worker.join(Duration.ofNanos(remaining));
+                    }
+                    worker.interrupt();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            workers.clear();
+        }
+        publishRemaining();
+    }
+
+    /**
+     * shutdownTimeout이 지나도 큐에 남은 이벤트를 처리합니다.
+     * 릴레이를 사용하면 미처리 상태로 남겨 릴레이가 재발행하도록 하고,
+     * 그렇지 않으면 재발행할 주체가 없으므로 종료하는 스레드에서 발행합니다. (발행 수 상한을 기다리지 않음)
+     */
+    private void publishRemaining() {
+        List<DispatchTask> remaining = new ArrayList<>();
+        for (BlockingQueue<DispatchTask> queue : lanes) {
+            queue.drainTo(remaining);
+        }
+        if (remaining.isEmpty()) {
+            return;
+        }
+        if (relayEnabled) {
+            log.warn("Outbox dispatcher stopped with {} events left unpublished in the outbox table", remaining.size());
+            return;
+        }
+        log.warn("Outbox dispatcher publishing {} remaining events on the stopping thread", remaining.size());
+        for (DispatchTask task : remaining) {
+            callerRunsCount.increment();
+            publish(task, false);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 큐에 대기 중인 이벤트 수 (모든 레인의 합)
+    public int getQueueDepth() {
+        int depth = 0;
+        for (BlockingQueue<DispatchTask> queue : lanes) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    // 큐의 남은 용량 (모든 레인의 합)
+    public int getRemainingCapacity() {
+        int remaining = 0;
+        for (BlockingQueue<DispatchTask> queue : lanes) {
+            remaining += queue.remainingCapacity();
+        }
+        return remaining;
+    }
+
+    // 상태 변경까지 끝나지 않은 발행 수
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    // 큐가 가득 차서 발행을 생략한 이벤트 수
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    // 호출 스레드에서 직접 발행한 이벤트 수
+    public long getCallerRunsCount() {
+        return callerRunsCount.sum();
+    }
+
+    private record DispatchTask(OutboxEvent event, Context context) {
+    }
+
+}
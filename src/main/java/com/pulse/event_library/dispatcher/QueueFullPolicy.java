@@ -0,0 +1,18 @@
+package com.pulse.event_library.dispatcher;
+
+/**
+ * OutboxDispatcher의 큐가 가득 찼을 때의 처리 정책
+ */
+public enum QueueFullPolicy {
+
+    // 큐에 빈 자리가 생길 때까지 호출 스레드를 대기시킨다.
+    // (offer-timeout을 넘기면 릴레이 사용 시 DROP_TO_RELAY, 릴레이 미사용 시 CALLER_RUNS와 동일하게 처리)
+    BLOCK,
+
+    // Kafka 발행을 생략하고 Outbox 테이블에 미처리 상태로 남겨둔다. (OutboxRelay가 이후 재발행, 릴레이 미사용 시 기동 실패)
+    DROP_TO_RELAY,
+
+    // 호출 스레드에서 직접 발행한다. (기존 동기 방식과 동일)
+    CALLER_RUNS
+
+}
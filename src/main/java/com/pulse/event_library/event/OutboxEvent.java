@@ -3,4 +3,14 @@ package com.pulse.event_library.event;
 public interface OutboxEvent {
     String getEventType();
     Long getId();
-}
\ No newline at end of file
+
+    // Kafka 메시지 키 (같은 키의 이벤트는 같은 파티션으로 전송되어 순서가 보장된다. ex. 애그리거트 ID)
+    default String getPartitionKey() {
+        return null;
+    }
+
+    // 메시지 값으로 전송할 이벤트 본문 (pulse.outbox.payload.mode=BODY 인 경우 코덱으로 인코딩하여 전송하며, null이면 outbox id만 전송한다.)
+    default Object getPayload() {
+        return null;
+    }
+}
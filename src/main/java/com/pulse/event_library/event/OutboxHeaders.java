@@ -0,0 +1,23 @@
+package com.pulse.event_library.event;
+
+/**
+ * Outbox 메시지에 추가되는 Kafka 헤더 이름입니다.
+ */
+public final class OutboxHeaders {
+
+    // 메시지 값의 형식 (ex. text/plain, application/json, application/x-jackson-smile)
+    public static final String CONTENT_TYPE = "content-type";
+
+    // 메시지 값의 압축 방식 (압축한 경우에만 추가, ex. deflate)
+    public static final String CONTENT_ENCODING = "content-encoding";
+
+    // outbox id (UTF-8 문자열)
+    public static final String OUTBOX_ID = "pulse_outbox_id";
+
+    // 이벤트 타입 (OutboxEvent.getEventType())
+    public static final String EVENT_TYPE = "pulse_event_type";
+
+    private OutboxHeaders() {
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.pulse.event_library.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑된 저널 세그먼트 파일입니다.
+ *
+ * 파일 구조는 다음과 같습니다.
+ * - 헤더(16 byte): magic(int) | version(int) | 재전송 완료 위치(int) | 예약(int)
+ * - 레코드: 길이(int) | CRC32C(int) | 본문
+ *
+ * 레코드는 본문과 체크섬을 먼저 쓰고 길이를 마지막에 쓰므로, 기록 중에 프로세스가 종료되어도 복구 시 잘린 레코드를 걸러낼 수 있습니다.
+ * 쓰기는 저널의 잠금 안에서만 수행하고, 읽기는 volatile 필드인 committedPosition 이전까지만 수행합니다.
+ */
+final class JournalSegment {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalSegment.class);
+
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private static final int MAGIC = 0x504F4A4C; // "POJL"
+    private static final int VERSION = 1;
+    private static final int ACKED_POSITION_OFFSET = 8;
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    // 기록이 끝난 위치 (다음 레코드를 쓸 위치)
+    private volatile int committedPosition;
+
+    // 더 이상 기록하지 않는 세그먼트인지 여부
+    private volatile boolean sealed;
+
+    // 재전송이 끝난 위치 (재전송 스레드에서만 변경)
+    private int ackedPosition;
+
+    private JournalSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * 새 세그먼트 파일을 생성합니다.
+     */
+    static JournalSegment create(Path path, long sequence, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(ACKED_POSITION_OFFSET, HEADER_SIZE);
+
+        JournalSegment segment = new JournalSegment(sequence, path, channel, buffer);
+        segment.ackedPosition = HEADER_SIZE;
+        segment.committedPosition = HEADER_SIZE;
+        return segment;
+    }
+
+    /**
+     * 기존 세그먼트 파일을 열고, 체크섬이 맞는 마지막 레코드까지를 유효한 기록으로 복구합니다.
+     */
+    static JournalSegment recover(Path path, long sequence) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException("Not an outbox journal segment: " + path);
+        }
+
+        // 재전송이 끝난 레코드는 읽지 않으므로, 재전송이 끝난 위치부터 검사합니다.
+        JournalSegment segment = new JournalSegment(sequence, path, channel, buffer);
+        int ackedPosition = buffer.getInt(ACKED_POSITION_OFFSET);
+        if (ackedPosition < HEADER_SIZE || ackedPosition > buffer.capacity()) {
+            ackedPosition = HEADER_SIZE;
+        }
+        int position = ackedPosition;
+        while (true) {
+            int length = segment.validLengthAt(position);
+            if (length < 0) {
+                break;
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        segment.ackedPosition = ackedPosition;
+        segment.committedPosition = position;
+        return segment;
+    }
+
+    /**
+     * 레코드를 추가합니다.
+     *
+     * @param record 레코드 본문
+     * @param force  디스크에 바로 반영할지 여부
+     * @return 남은 공간이 부족하면 false
+     */
+    boolean append(byte[] record, boolean force) {
+        int position = committedPosition;
+        if (buffer.capacity() - position < RECORD_HEADER_SIZE + record.length) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(record);
+        buffer.put(position + RECORD_HEADER_SIZE, record);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, record.length);
+        if (force) {
+            buffer.force(position, RECORD_HEADER_SIZE + record.length);
+        }
+        committedPosition = position + RECORD_HEADER_SIZE + record.length;
+        return true;
+    }
+
+    /**
+     * 위치의 레코드 본문을 읽습니다.
+     *
+     * @param position 레코드 위치
+     * @return 레코드 본문, 기록된 레코드가 없으면 null
+     */
+    byte[] read(int position) {
+        if (position >= committedPosition) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        byte[] record = new byte[length];
+        buffer.get(position + RECORD_HEADER_SIZE, record);
+        return record;
+    }
+
+    /**
+     * 재전송이 끝난 위치를 기록합니다.
+     */
+    void acknowledge(int position) {
+        ackedPosition = position;
+        buffer.putInt(ACKED_POSITION_OFFSET, position);
+    }
+
+    // 재전송하지 않은 레코드가 남아있는지 여부
+    boolean hasUnacknowledged() {
+        return ackedPosition < committedPosition;
+    }
+
+    // 재전송하지 않은 레코드 수 (복구 시 사용)
+    int countUnacknowledged() {
+        int count = 0;
+        int position = ackedPosition;
+        while (position < committedPosition) {
+            position += RECORD_HEADER_SIZE + buffer.getInt(position);
+            count++;
+        }
+        return count;
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    int getAckedPosition() {
+        return ackedPosition;
+    }
+
+    int getCapacity() {
+        return buffer.capacity();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close outbox journal segment [{}]", path, e);
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete outbox journal segment [{}]", path, e);
+        }
+    }
+
+    private int validLengthAt(int position) {
+        if (buffer.capacity() - position < RECORD_HEADER_SIZE) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || length > buffer.capacity() - position - RECORD_HEADER_SIZE) {
+            return -1;
+        }
+        byte[] record = new byte[length];
+        buffer.get(position + RECORD_HEADER_SIZE, record);
+        CRC32C crc = new CRC32C();
+        crc.update(record);
+        if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+            log.warn("Outbox journal segment [{}] has a corrupted record at {}, ignoring the rest of the segment", path, position);
+            return -1;
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.pulse.event_library.journal;
+
+import com.pulse.event_library.codec.EncodedPayload;
+import com.pulse.event_library.event.OutboxEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 로컬 저널에 기록된 Outbox 이벤트입니다.
+ * 원래 이벤트 객체 대신 전송에 필요한 값(토픽, 키, 인코딩된 메시지 값)만 보관하므로,
+ * 재전송 후 OutboxService.markOutboxEventProcessed에는 이 타입이 전달됩니다. (getId, getEventType만 사용 가능)
+ *
+ * @param id              outbox id
+ * @param eventType       이벤트 타입
+ * @param partitionKey    Kafka 메시지 키
+ * @param topic           Kafka 토픽
+ * @param data            인코딩된 메시지 값
+ * @param contentType     content-type 헤더 값
+ * @param contentEncoding content-encoding 헤더 값 (압축하지 않았으면 null)
+ * @param journaledAt     저널에 기록한 시각(epoch ms)
+ */
+public record JournaledOutboxEvent(Long id,
+                                   String eventType,
+                                   String partitionKey,
+                                   String topic,
+                                   byte[] data,
+                                   String contentType,
+                                   String contentEncoding,
+                                   long journaledAt) implements OutboxEvent {
+
+    /**
+     * 전송할 이벤트와 토픽, 인코딩된 메시지 값으로 저널 항목을 생성합니다.
+     */
+    public static JournaledOutboxEvent of(OutboxEvent event, String topic, EncodedPayload payload) {
+        return new JournaledOutboxEvent(event.getId(), event.getEventType(), event.getPartitionKey(), topic,
+                payload.data(), payload.contentType(), payload.contentEncoding(), System.currentTimeMillis());
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    // 전송할 메시지 값과 헤더 값
+    public EncodedPayload payload() {
+        return new EncodedPayload(data, contentType, contentEncoding);
+    }
+
+    byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + data.length);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeBoolean(id != null);
+            out.writeLong(id != null ? id : 0L);
+            writeNullable(out, eventType);
+            writeNullable(out, partitionKey);
+            out.writeUTF(topic);
+            writeNullable(out, contentType);
+            writeNullable(out, contentEncoding);
+            out.writeLong(journaledAt);
+            out.writeInt(data.length);
+            out.write(data);
+        } catch (IOException e) {
+            // ByteArrayOutputStream에 쓰므로 발생하지 않습니다.
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static JournaledOutboxEvent fromBytes(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            boolean hasId = in.readBoolean();
+            long id = in.readLong();
+            String eventType = readNullable(in);
+            String partitionKey = readNullable(in);
+            String topic = in.readUTF();
+            String contentType = readNullable(in);
+            String contentEncoding = readNullable(in);
+            long journaledAt = in.readLong();
+            byte[] data = new byte[in.readInt()];
+            in.readFully(data);
+            return new JournaledOutboxEvent(hasId ? id : null, eventType, partitionKey, topic,
+                    data, contentType, contentEncoding, journaledAt);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+}
@@ -0,0 +1,228 @@
+package com.pulse.event_library.journal;
+
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.OutboxCircuitBreaker;
+import com.pulse.event_library.service.KafkaProducerService;
+import com.pulse.event_library.service.OutboxService;
+import io.opentelemetry.context.Context;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로컬 저널에 기록된 이벤트를 기록한 순서대로 Kafka로 재전송합니다.
+ *
+ * 회로가 닫혀 있으면 최대 batchSize건씩 전송하고 모든 응답을 기다린 뒤, 앞에서부터 연속으로 성공한 레코드까지만 재전송 완료로 기록합니다.
+ * 회로가 HALF_OPEN이면 한 건만 시험 전송하며, 재시도 가능한 실패가 발생하면 회로를 다시 열고 같은 위치부터 재전송합니다.
+ * 복구 직후 밀린 이벤트를 한꺼번에 보내지 않도록 회로가 닫힐 때 저널에 남아 있던 이벤트는 초당 rate건을 넘지 않게 전송 간격을 조절합니다.
+ * 회로가 닫힌 뒤에 저널에 기록된 이벤트(재전송이 끝날 때까지 순서를 유지하기 위해 기록된 새 이벤트)는 간격을 두지 않고 전송하므로,
+ * 새 이벤트의 유입량이 rate보다 많아도 저널이 비워집니다.
+ */
+public class OutboxJournalReplayer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxJournalReplayer.class);
+
+    private final OutboxSpillJournal journal;
+    private final OutboxCircuitBreaker circuitBreaker;
+    private final KafkaProducerService kafkaProducerService;
+    private final OutboxService outboxService;
+    private final OutboxMetrics outboxMetrics;
+    private final int batchSize;
+    private final long nanosPerEvent;
+    private final long pollIntervalNanos;
+    private final ThreadFactory threadFactory;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long nextSendNanos;
+    // 전송 간격을 조절할 남은 레코드 수 (회로가 닫힐 때 저널에 남아 있던 레코드 수)
+    private long pacedRemaining;
+    private boolean closedBefore;
+
+    /**
+     * @param journal              로컬 저널
+     * @param circuitBreaker       회로 차단기
+     * @param kafkaProducerService Kafka 전송 서비스
+     * @param outboxService        Outbox 서비스
+     * @param outboxMetrics        Outbox 지표
+     * @param batchSize            한 번에 전송할 최대 레코드 수
+     * @param rate                 회로가 닫힐 때 남아 있던 레코드의 초당 최대 재전송 건수
+     * @param pollInterval         재전송할 레코드가 없거나 회로가 열려 있을 때 다시 확인하는 간격
+     * @param threadFactory        재전송 스레드를 생성할 ThreadFactory
+     */
+    public OutboxJournalReplayer(OutboxSpillJournal journal,
+                                 OutboxCircuitBreaker circuitBreaker,
+                                 KafkaProducerService kafkaProducerService,
+                                 OutboxService outboxService,
+                                 OutboxMetrics outboxMetrics,
+                                 int batchSize,
+                                 int rate,
+                                 Duration pollInterval,
+                                 ThreadFactory threadFactory) {
+        this.journal = journal;
+        this.circuitBreaker = circuitBreaker;
+        this.kafkaProducerService = kafkaProducerService;
+        this.outboxService = outboxService;
+        this.outboxMetrics = outboxMetrics;
+        this.batchSize = batchSize;
+        this.nanosPerEvent = 1_000_000_000L / Math.max(1, rate);
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        nextSendNanos = System.nanoTime();
+        worker = threadFactory.newThread(this::replayLoop);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void replayLoop() {
+        while (running) {
+            try {
+                // 1. 재전송할 레코드가 없거나 회로가 열려 있으면 기다립니다.
+                if (!journal.hasPending() || !circuitBreaker.allowRequest()) {
+                    LockSupport.parkNanos(pollIntervalNanos);
+                    continue;
+                }
+
+                // 2. 회로가 닫히면 그때 남아 있던 레코드 수만큼 전송 간격을 조절합니다.
+                boolean closed = circuitBreaker.isClosed();
+                if (closed && !closedBefore) {
+                    pacedRemaining = journal.getPendingCount();
+                }
+                closedBefore = closed;
+
+                // 3. 회로가 닫혀 있으면 batchSize건, 시험 전송이면 한 건을 재전송합니다.
+                List<OutboxSpillJournal.Entry> entries = journal.read(closed ? batchSize : 1);
+                if (!entries.isEmpty() && !replay(entries)) {
+                    LockSupport.parkNanos(pollIntervalNanos);
+                }
+            } catch (Exception e) {
+                log.error("Outbox journal replay failed", e);
+                LockSupport.parkNanos(pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * 레코드를 전송하고, 앞에서부터 연속으로 처리된 레코드까지 재전송 완료로 기록합니다.
+     *
+     * @return 모든 레코드가 처리되었으면 true
+     */
+    private boolean replay(List<OutboxSpillJournal.Entry> entries) {
+        // 1. 순서대로 전송합니다. (회로가 닫힐 때 남아 있던 레코드는 전송 간격을 조절합니다.)
+        List<CompletableFuture<RecordMetadata>> futures = new ArrayList<>(entries.size());
+        for (OutboxSpillJournal.Entry entry : entries) {
+            if (pacedRemaining > 0) {
+                pace();
+                pacedRemaining--;
+            }
+            futures.add(send(entry.getEvent()));
+        }
+
+        // 2. 앞에서부터 결과를 확인하며, 처리된 레코드는 처리 완료 상태로 변경합니다.
+        int processed = 0;
+        Throwable failure = null;
+        for (int i = 0; i < entries.size(); i++) {
+            JournaledOutboxEvent event = entries.get(i).getEvent();
+            try {
+                futures.get(i).join();
+                outboxMetrics.recordPublished(event.getEventType(), event.topic(), true);
+                markProcessed(event);
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (kafkaProducerService.isRetriable(cause)) {
+                    // 2-1. 재시도 가능한 실패이면 이후 레코드는 완료로 기록하지 않고 같은 위치부터 다시 전송합니다.
+                    failure = cause;
+                    break;
+                }
+                // 2-2. 재시도해도 성공할 수 없는 실패이면 실패 상태로 변경하고 건너뜁니다. (OutboxRelay로 재발행)
+                log.error("Dropping outbox event [{}] from the journal after a non-retriable send failure", event.getId(), cause);
+                outboxMetrics.recordPublished(event.getEventType(), event.topic(), false);
+                markFailed(event);
+            }
+            processed++;
+        }
+
+        // 3. 처리된 위치까지 재전송 완료로 기록하고, 결과를 회로 차단기에 알립니다.
+        if (processed > 0) {
+            journal.acknowledge(entries.get(processed - 1), processed);
+        }
+        if (failure != null) {
+            // 다시 보낼 레코드도 전송 간격을 조절합니다.
+            pacedRemaining += entries.size() - processed;
+            log.warn("Outbox journal replay paused after {} of {} events: {}", processed, entries.size(), failure.getMessage());
+            circuitBreaker.onFailure();
+            return false;
+        }
+        circuitBreaker.onSuccess();
+        return true;
+    }
+
+    private CompletableFuture<RecordMetadata> send(JournaledOutboxEvent event) {
+        try {
+            return kafkaProducerService.send(event, event.topic(), event.payload(), Context.root())
+                    .thenApply(result -> result.getRecordMetadata());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void pace() {
+        long now = System.nanoTime();
+        if (nextSendNanos - now > 0) {
+            LockSupport.parkNanos(nextSendNanos - now);
+            now = System.nanoTime();
+        }
+        nextSendNanos = Math.max(nextSendNanos, now) + nanosPerEvent;
+    }
+
+    private void markProcessed(JournaledOutboxEvent event) {
+        try {
+            outboxService.markOutboxEventProcessed(event);
+        } catch (Exception e) {
+            log.error("Failed to update outbox event [{}] status", event.getId(), e);
+        }
+    }
+
+    private void markFailed(JournaledOutboxEvent event) {
+        try {
+            outboxService.markOutboxEventFailed(event);
+        } catch (Exception e) {
+            log.error("Failed to update outbox event [{}] status", event.getId(), e);
+        }
+    }
+
+}
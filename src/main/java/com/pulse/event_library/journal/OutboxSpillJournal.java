@@ -0,0 +1,249 @@
+package com.pulse.event_library.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Kafka에 전송할 수 없는 동안 커밋된 Outbox 이벤트를 로컬 디스크에 기록하는 추가 전용 저널입니다.
+ *
+ * 저널은 고정 크기의 메모리 매핑 세그먼트 파일로 구성되며, 레코드마다 CRC32C 체크섬을 기록합니다.
+ * 재전송은 기록한 순서대로 수행하며, 재전송이 끝난 위치는 세그먼트 헤더에 기록하고
+ * 모든 레코드의 재전송이 끝난 세그먼트 파일은 삭제합니다.
+ *
+ * 기록은 여러 스레드에서 호출할 수 있고, 읽기와 재전송 완료 처리는 재전송 스레드 하나에서만 호출해야 합니다.
+ */
+public class OutboxSpillJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxSpillJournal.class);
+
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final boolean forceOnWrite;
+
+    // 오래된 순서의 세그먼트 목록 (마지막 세그먼트에 기록)
+    private final ConcurrentLinkedDeque<JournalSegment> segments = new ConcurrentLinkedDeque<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private long nextSequence;
+
+    /**
+     * @param directory    세그먼트 파일을 저장할 디렉터리
+     * @param segmentSize  세그먼트 파일 크기(byte)
+     * @param maxSize      저널의 최대 크기(byte), 초과하면 기록하지 않습니다.
+     * @param forceOnWrite 레코드마다 디스크에 바로 반영할지 여부
+     */
+    public OutboxSpillJournal(Path directory, int segmentSize, long maxSize, boolean forceOnWrite) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(1, maxSize / segmentSize);
+        this.forceOnWrite = forceOnWrite;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open outbox journal in " + directory, e);
+        }
+    }
+
+    /**
+     * 이벤트를 저널에 기록합니다.
+     *
+     * @param event 기록할 이벤트
+     * @throws IllegalStateException 저널이 최대 크기에 도달했거나 이벤트가 세그먼트보다 큰 경우
+     */
+    public void append(JournaledOutboxEvent event) {
+        byte[] record = event.toBytes();
+        if (record.length > segmentSize - JournalSegment.HEADER_SIZE - JournalSegment.RECORD_HEADER_SIZE) {
+            throw new IllegalStateException("Outbox event [" + event.getId() + "] is larger than the journal segment size");
+        }
+
+        writeLock.lock();
+        try {
+            // 1. 현재 세그먼트에 기록하고, 공간이 부족하면 새 세그먼트를 만들어 기록합니다.
+            JournalSegment segment = segments.peekLast();
+            if (segment == null || !segment.append(record, forceOnWrite)) {
+                if (segments.size() >= maxSegments) {
+                    throw new IllegalStateException("Outbox journal is full (" + maxSegments + " segments)");
+                }
+                if (segment != null) {
+                    segment.seal();
+                }
+                segment = newSegment();
+                segment.append(record, forceOnWrite);
+            }
+            // 2. 재전송 스레드가 볼 수 있도록 기록이 끝난 뒤에 대기 건수를 늘립니다.
+            pendingCount.incrementAndGet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 재전송이 끝나지 않은 레코드를 기록한 순서대로 읽습니다. (재전송 완료 처리 전까지는 같은 레코드를 다시 반환합니다.)
+     *
+     * @param max 읽을 최대 레코드 수
+     * @return 레코드 목록
+     */
+    public List<Entry> read(int max) {
+        List<Entry> entries = new ArrayList<>(Math.min(max, 256));
+        for (JournalSegment segment : segments) {
+            // 봉인 여부를 먼저 확인해야 봉인 직전에 기록된 레코드를 건너뛰지 않습니다.
+            boolean sealed = segment.isSealed();
+            int position = segment.getAckedPosition();
+            byte[] record;
+            while (entries.size() < max && (record = segment.read(position)) != null) {
+                position += JournalSegment.RECORD_HEADER_SIZE + record.length;
+                entries.add(new Entry(decode(segment, record), segment, position));
+            }
+            if (entries.size() >= max || !sealed) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 레코드까지(포함) 재전송이 끝났음을 기록하고, 모든 레코드의 재전송이 끝난 세그먼트 파일을 삭제합니다.
+     *
+     * @param last  재전송이 끝난 마지막 레코드
+     * @param count 이번에 재전송이 끝난 레코드 수
+     */
+    public void acknowledge(Entry last, int count) {
+        // 1. 앞선 세그먼트는 모두 재전송이 끝났으므로 삭제합니다.
+        JournalSegment head;
+        while ((head = segments.peekFirst()) != null && head != last.segment && head.isSealed()) {
+            segments.pollFirst();
+            head.delete();
+        }
+
+        // 2. 재전송이 끝난 위치를 기록하고, 봉인된 세그먼트이면서 모두 끝났으면 삭제합니다.
+        last.segment.acknowledge(last.endPosition);
+        pendingCount.addAndGet(-count);
+        if (last.segment.isSealed() && !last.segment.hasUnacknowledged() && segments.peekFirst() == last.segment) {
+            segments.pollFirst();
+            last.segment.delete();
+        }
+    }
+
+    // 재전송을 기다리는 레코드가 있는지 여부
+    public boolean hasPending() {
+        return pendingCount.get() > 0;
+    }
+
+    // 재전송을 기다리는 레코드 수
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    // 세그먼트 파일의 전체 크기(byte)
+    public long getSize() {
+        long size = 0;
+        for (JournalSegment segment : segments) {
+            size += segment.getCapacity();
+        }
+        return size;
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            for (JournalSegment segment : segments) {
+                segment.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 디렉터리의 세그먼트 파일을 순서대로 열어 재전송하지 않은 레코드를 복구합니다.
+     * 재전송이 모두 끝난 세그먼트는 삭제하고, 마지막 세그먼트에 이어서 기록합니다.
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+
+        for (Path file : files) {
+            long sequence = Long.parseLong(file.getFileName().toString().replace(SUFFIX, ""));
+            nextSequence = Math.max(nextSequence, sequence + 1);
+            JournalSegment segment = JournalSegment.recover(file, sequence);
+            JournalSegment previous = segments.peekLast();
+            if (previous != null) {
+                previous.seal();
+            }
+            segments.addLast(segment);
+            pendingCount.addAndGet(segment.countUnacknowledged());
+        }
+
+        // 마지막 세그먼트를 제외하고, 재전송이 모두 끝난 세그먼트는 삭제합니다.
+        JournalSegment head;
+        while ((head = segments.peekFirst()) != null && head.isSealed() && !head.hasUnacknowledged()) {
+            segments.pollFirst();
+            head.delete();
+        }
+        if (pendingCount.get() > 0) {
+            log.info("Recovered {} outbox events from the journal in {}", pendingCount.get(), directory);
+        }
+    }
+
+    private JournalSegment newSegment() {
+        long sequence = nextSequence++;
+        Path path = directory.resolve(String.format("%020d%s", sequence, SUFFIX));
+        try {
+            JournalSegment segment = JournalSegment.create(path, sequence, segmentSize);
+            segments.addLast(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create outbox journal segment " + path, e);
+        }
+    }
+
+    private static JournaledOutboxEvent decode(JournalSegment segment, byte[] record) {
+        try {
+            return JournaledOutboxEvent.fromBytes(record);
+        } catch (IOException e) {
+            // 기록한 형식과 맞지 않으면 다른 버전의 라이브러리가 기록한 저널입니다.
+            throw new IllegalStateException("Unreadable outbox journal record in segment " + segment.getSequence(), e);
+        }
+    }
+
+    /**
+     * 저널에서 읽은 레코드
+     */
+    public static final class Entry {
+
+        private final JournaledOutboxEvent event;
+        private final JournalSegment segment;
+        private final int endPosition;
+
+        private Entry(JournaledOutboxEvent event, JournalSegment segment, int endPosition) {
+            this.event = event;
+            this.segment = segment;
+            this.endPosition = endPosition;
+        }
+
+        public JournaledOutboxEvent getEvent() {
+            return event;
+        }
+
+    }
+
+}
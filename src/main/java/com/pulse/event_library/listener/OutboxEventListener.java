@@ -1,13 +1,16 @@
 package com.pulse.event_library.listener;
 
+import com.pulse.event_library.dispatcher.OutboxDispatcher;
 import com.pulse.event_library.event.OutboxEvent;
-import com.pulse.event_library.service.KafkaProducerService;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.service.OutboxPublishService;
 import com.pulse.event_library.service.OutboxService;
-import io.opentelemetry.api.GlobalOpenTelemetry;
+import com.pulse.event_library.transaction.OutboxSaveBatcher;
+import com.pulse.event_library.tracing.OutboxTracing;
 import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.Tracer;
-import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -19,13 +22,38 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class OutboxEventListener {
 
     private final OutboxService outboxService;
-    private final KafkaProducerService kafkaProducerService;
-    private final Tracer tracer = GlobalOpenTelemetry.getTracer("outbox-event-listener");
+    private final OutboxPublishService outboxPublishService;
+    private final OutboxDispatcher outboxDispatcher;
+    private final OutboxSaveBatcher outboxSaveBatcher;
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxTracing outboxTracing;
 
 
-    public OutboxEventListener(OutboxService outboxService, KafkaProducerService kafkaProducerService) {
+    public OutboxEventListener(OutboxService outboxService,
+                               OutboxPublishService outboxPublishService,
+                               ObjectProvider<OutboxDispatcher> outboxDispatcher,
+                               ObjectProvider<OutboxSaveBatcher> outboxSaveBatcher,
+                               OutboxMetrics outboxMetrics,
+                               OutboxTracing outboxTracing) {
         this.outboxService = outboxService;
-        this.kafkaProducerService = kafkaProducerService;
+        this.outboxPublishService = outboxPublishService;
+        this.outboxDispatcher = outboxDispatcher.getIfAvailable();
+        this.outboxSaveBatcher = outboxSaveBatcher.getIfAvailable();
+        this.outboxMetrics = outboxMetrics;
+        this.outboxTracing = outboxTracing;
+    }
+
+    /**
+     * 일괄 저장이 활성화된 경우, 이벤트가 발행되는 즉시 현재 트랜잭션의 버퍼에 수집한다.
+     * 수집된 이벤트는 커밋 직전에 OutboxService.saveOutboxEvents로 한 번에 저장된다.
+     *
+     * @param event
+     */
+    @EventListener
+    public void collectOutboxEvent(OutboxEvent event) {
+        if (outboxSaveBatcher != null) {
+            outboxSaveBatcher.collect(event);
+        }
     }
 
     /**
@@ -35,15 +63,21 @@ public class OutboxEventListener {
      */
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleOutboxEvent(OutboxEvent event) {
-        // 1. Span을 생성하고 현재 컨텍스트에 설정
-        Span span = tracer.spanBuilder("[spring-event] before-commit (outbox-table save)").startSpan();
+        // 일괄 저장이 활성화된 경우 collectOutboxEvent에서 수집한 이벤트를 커밋 직전에 한 번에 저장한다.
+        if (outboxSaveBatcher != null) {
+            return;
+        }
+
+        // 1. Span을 생성 (FULL 모드에서만 생성)
+        Span span = outboxTracing.startSaveSpan("[spring-event] before-commit (outbox-table save)");
 
         // 2. Span을 현재 컨텍스트에 설정
-        try (Scope scope = span.makeCurrent()) {
-            Context context = Context.current().with(span);
+        try (Scope scope = outboxTracing.makeCurrent(span)) {
             try {
                 // Outbox 테이블에 이벤트를 저장한다.
+                long startNanos = System.nanoTime();
                 outboxService.saveOutboxEvent(event);
+                outboxMetrics.recordSave(System.nanoTime() - startNanos, 1);
             } catch (Exception e) {
                 span.recordException(e);
                 throw e;
@@ -55,36 +89,17 @@ public class OutboxEventListener {
 
     /**
      * 트랜잭션이 성공적으로 커밋되면 Kafka로 이벤트를 발행합니다.
+     * 비동기 디스패처가 활성화된 경우 디스패처의 큐에 넣고 바로 반환하여, 요청 스레드가 브로커 응답을 기다리지 않도록 합니다.
      *
      * @param event 전송할 Outbox 이벤트
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void sendToKafka(OutboxEvent event) {
-        // 1. 현재 컨텍스트를 가져와 Span을 생성
-        Span span = tracer.spanBuilder("[spring-event] after-commit (kafka-produce && outbox table process)").startSpan();
-
-        // 2. Span을 현재 컨텍스트에 설정
-        try (Scope scope = span.makeCurrent()) {
-            Context context = Context.current().with(span);
-            try {
-                // 2-1. 메시지로 보낼 payload와 전송할 Kafka의 토픽 정보를 가져옵니다.
-                Long message = event.getId();
-                String topic = outboxService.getKafkaTopic(event);
-
-                // 2-2. 추출한 토픽에 Kafka 메시지를 전송합니다.
-                kafkaProducerService.sendWithRetry(topic, String.valueOf(message), context);
-
-                // 2-3. 메시지 전송 후 Outbox 이벤트에 메시지를 처리된 상태로 변경합니다.
-                outboxService.markOutboxEventProcessed(event);
-            } catch (Exception e) {
-                // exception: 예외 발생 시 Outbox 이벤트를 실패 상태로 변경하고 Span에 예외를 기록합니다.
-                outboxService.markOutboxEventFailed(event);
-                span.recordException(e);
-            }
-        } finally {
-            // Span을 종료합니다.
-            span.end();
+        if (outboxDispatcher != null) {
+            outboxDispatcher.dispatch(event);
+            return;
         }
+        outboxPublishService.publish(event);
     }
 
 }
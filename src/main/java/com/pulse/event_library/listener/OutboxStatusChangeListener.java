@@ -1,37 +1,120 @@
 package com.pulse.event_library.listener;
 
+import com.pulse.event_library.config.OutboxConsumerProperties;
+import com.pulse.event_library.consumer.KeyOrderedExecutor;
+import com.pulse.event_library.consumer.OutboxRetryTopicResolver;
+import com.pulse.event_library.dedup.OutboxDeduplicator;
+import com.pulse.event_library.event.OutboxHeaders;
+import com.pulse.event_library.metrics.OutboxMetrics;
 import com.pulse.event_library.service.OutboxKafkaService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
 /**
  * Outbox 테이블의 상태를 업데이트하는 리스너
+ * pulse.outbox.consumer.mode 설정에 따라 해당하는 리스너 컨테이너만 기동된다.
  */
 @Component
-public class OutboxStatusChangeListener {
+public class OutboxStatusChangeListener implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxStatusChangeListener.class);
+    private static final String RETRY_LISTENER_ID = "outbox-status-retry-listener";
 
     private final OutboxKafkaService outboxKafkaService;
+    private final OutboxConsumerProperties properties;
+    private final OutboxRetryTopicResolver retryTopicResolver;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+    private final OutboxDeduplicator deduplicator;
+    private final OutboxMetrics outboxMetrics;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry;
 
-    public OutboxStatusChangeListener(OutboxKafkaService outboxKafkaService) {
+    // 처리 예정 시각이 되지 않아 멈춘 재시도 토픽 파티션과 되돌아간 오프셋
+    private final Map<TopicPartition, Long> waitingOffsets = new ConcurrentHashMap<>();
+    // 멈춘 파티션을 재개하는 스케줄러 (재시도 토픽을 사용하지 않으면 null)
+    private final ScheduledExecutorService resumeScheduler;
+
+    public OutboxStatusChangeListener(OutboxKafkaService outboxKafkaService,
+                                      OutboxConsumerProperties properties,
+                                      ObjectProvider<OutboxRetryTopicResolver> retryTopicResolver,
+                                      ObjectProvider<DeadLetterPublishingRecoverer> deadLetterRecoverer,
+                                      KeyOrderedExecutor keyOrderedExecutor,
+                                      ObjectProvider<OutboxDeduplicator> deduplicator,
+                                      OutboxMetrics outboxMetrics,
+                                      ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry) {
         this.outboxKafkaService = outboxKafkaService;
+        this.properties = properties;
+        this.retryTopicResolver = retryTopicResolver.getIfAvailable();
+        this.deadLetterRecoverer = deadLetterRecoverer.getIfAvailable();
+        this.keyOrderedExecutor = keyOrderedExecutor;
+        this.deduplicator = deduplicator.getIfAvailable();
+        this.outboxMetrics = outboxMetrics;
+        this.listenerRegistry = listenerRegistry;
+        this.resumeScheduler = this.retryTopicResolver != null
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("outbox-retry-resume").daemon(true).factory())
+                : null;
+    }
+
+    @Override
+    public void destroy() {
+        if (resumeScheduler != null) {
+            resumeScheduler.shutdownNow();
+        }
     }
 
     /**
      * outbox로 끝나는 토픽만 처리하는 listen 메서드
      * topicPattern을 사용하여 outbox로 끝나는 토픽만 처리한다.
      *
-     * @param message
+     * @param record
      * @param ack
      */
-    @KafkaListener(topicPattern = ".*outbox$")
+    @KafkaListener(
+            id = "outbox-status-listener",
+            idIsGroup = false,
+            topicPattern = ".*outbox$",
+            autoStartup = "#{__listener.isActive('RECORD')}"
+    )
     public void listen(
-            String message,
+            ConsumerRecord<String, byte[]> record,
             Acknowledgment ack
     ) {
         try {
+            // 이미 처리한 outbox id이면 상태를 업데이트하지 않고 ack 처리한다.
+            Long id = dedupIdOf(record);
+            if (isDuplicate(record, id)) {
+                ack.acknowledge();
+                return;
+            }
             // Kafka로부터 수신한 메시지를 Outbox 테이블의 상태로 업데이트한다.
-            outboxKafkaService.updateOutboxStatus();
+            updateStatus("record", 1, outboxKafkaService::updateOutboxStatus);
+            markProcessed(record, id);
             // ack 처리
             ack.acknowledge();
         } catch (Exception e) {
@@ -40,4 +123,281 @@ public class OutboxStatusChangeListener {
         }
     }
 
+    /**
+     * outbox로 끝나는 토픽의 레코드를 배치 단위로 처리하는 listen 메서드
+     * 배치에 포함된 outbox id를 모아 한 번에 상태를 업데이트하고, 배치마다 한 번 ack 처리한다.
+     *
+     * @param records
+     * @param ack
+     */
+    @KafkaListener(
+            id = "outbox-status-batch-listener",
+            idIsGroup = false,
+            topicPattern = ".*outbox$",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{__listener.isActive('BATCH')}"
+    )
+    public void listenBatch(
+            List<ConsumerRecord<String, byte[]>> records,
+            Acknowledgment ack
+    ) {
+        // 1. 배치에 포함된 메시지에서 outbox id를 추출한다. (중복 제거, 수신 순서 유지, 이미 처리한 outbox id 제외)
+        Set<Long> ids = new LinkedHashSet<>(records.size());
+        Map<String, List<Long>> idsByTopic = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Long id = parseOutboxId(record);
+            if (id != null && !isDuplicate(record, id) && ids.add(id)) {
+                idsByTopic.computeIfAbsent(dedupTopicOf(record), topic -> new ArrayList<>()).add(id);
+            }
+        }
+
+        // 2. 추출한 outbox id의 상태를 한 번에 업데이트한다. (실패 시 예외가 전파되어 배치 전체가 재시도된다.)
+        if (!ids.isEmpty()) {
+            updateStatus("batch", ids.size(), () -> outboxKafkaService.updateOutboxStatus(ids));
+            if (deduplicator != null) {
+                idsByTopic.forEach(deduplicator::markProcessed);
+            }
+        }
+
+        // 3. 배치 단위로 ack 처리
+        ack.acknowledge();
+    }
+
+    /**
+     * outbox로 끝나는 토픽의 레코드를 키 단위로 순서를 보장하면서 병렬로 처리하는 listen 메서드
+     * 레코드를 키별 레인에 넘기고 바로 반환하며, 레인에서 처리가 끝나면 ack 처리한다.
+     * 컨테이너는 연속으로 ack된 위치까지만 오프셋을 커밋하므로, 처리되지 않은 레코드를 건너뛰고 커밋하지 않는다.
+     *
+     * @param record
+     * @param ack
+     */
+    @KafkaListener(
+            id = "outbox-status-key-ordered-listener",
+            idIsGroup = false,
+            topicPattern = ".*outbox$",
+            containerFactory = "keyOrderedKafkaListenerContainerFactory",
+            autoStartup = "#{__listener.isActive('KEY_ORDERED')}"
+    )
+    public void listenKeyOrdered(
+            ConsumerRecord<String, byte[]> record,
+            Acknowledgment ack
+    ) {
+        keyOrderedExecutor.execute(record.key(), record.offset(), () -> processInOrder(record, ack));
+    }
+
+    /**
+     * 레인에서 레코드를 처리한다.
+     * 실패하면 같은 레인에서 재시도하고, 모두 실패하면 재시도 토픽 / DLT로 옮기거나(사용 시) 로그를 남긴 뒤 ack 처리한다.
+     */
+    private void processInOrder(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        OutboxConsumerProperties.KeyOrdered keyOrdered = properties.getKeyOrdered();
+        Exception lastException = null;
+
+        // 1. 이미 처리한 outbox id이면 상태를 업데이트하지 않고 ack 처리한다.
+        Long id = dedupIdOf(record);
+        if (isDuplicate(record, id)) {
+            ack.acknowledge();
+            return;
+        }
+
+        // 2. 최대 시도 횟수만큼 처리를 시도한다.
+        for (int attempt = 1; attempt <= keyOrdered.getMaxAttempts(); attempt++) {
+            try {
+                updateStatus("key_ordered", 1, outboxKafkaService::updateOutboxStatus);
+                markProcessed(record, id);
+                ack.acknowledge();
+                return;
+            } catch (Exception e) {
+                lastException = e;
+                if (attempt < keyOrdered.getMaxAttempts() && !sleep(keyOrdered.getBackoff())) {
+                    break;
+                }
+            }
+        }
+
+        // 3. 모두 실패한 경우 재시도 토픽 / DLT로 옮긴다.
+        try {
+            if (deadLetterRecoverer != null) {
+                deadLetterRecoverer.accept(record, lastException);
+            } else {
+                log.error("Failed to process record: topic={}, partition={}, offset={}",
+                        record.topic(), record.partition(), record.offset(), lastException);
+            }
+        } finally {
+            ack.acknowledge();
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 재시도 토픽(outbox-retry-N)의 레코드를 처리하는 listen 메서드
+     * 레코드의 처리 예정 시각이 되지 않았으면 그 레코드의 파티션만 멈추고 그 레코드의 오프셋으로 되돌아간 뒤, 남은 시간이 지나면 재개한다.
+     * 컨슈머 전체를 멈추지 않으므로 하나의 컨슈머가 여러 단계의 재시도 토픽을 읽어도 짧은 지연 단계가 긴 지연 단계에 막히지 않는다.
+     * 처리에 실패하면 오류 핸들러가 다음 재시도 토픽 또는 DLT로 옮긴다.
+     *
+     * @param record
+     * @param ack
+     * @param consumer
+     */
+    @KafkaListener(
+            id = RETRY_LISTENER_ID,
+            idIsGroup = false,
+            topicPattern = "#{__listener.retryTopicPattern}",
+            autoStartup = "#{__listener.retryTopicEnabled}"
+    )
+    public void listenRetry(
+            ConsumerRecord<String, byte[]> record,
+            Acknowledgment ack,
+            Consumer<?, ?> consumer
+    ) {
+        // 1. 멈춘 파티션에서 같은 poll로 받은 이후 레코드는 처리하지 않는다. (재개한 뒤 되돌아간 오프셋부터 다시 읽는다.)
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        if (isWaiting(partition, record.offset())) {
+            return;
+        }
+
+        // 2. 처리 예정 시각이 되지 않았으면 이 파티션만 멈췄다가 남은 시간 뒤에 다시 읽는다.
+        long remainingDelay = retryTopicResolver.remainingDelayMillis(record);
+        if (remainingDelay > 0) {
+            pauseUntilDue(partition, record.offset(), remainingDelay, ack, consumer);
+            return;
+        }
+
+        // 3. 이미 처리한 outbox id이면 상태를 업데이트하지 않는다.
+        Long id = dedupIdOf(record);
+        if (!isDuplicate(record, id)) {
+            // 4. Kafka로부터 수신한 메시지를 Outbox 테이블의 상태로 업데이트한다.
+            updateStatus("retry", 1, outboxKafkaService::updateOutboxStatus);
+            markProcessed(record, id);
+        }
+        ack.acknowledge();
+    }
+
+    /**
+     * 멈춘 파티션의 레코드인지 확인한다.
+     * 되돌아간 오프셋 이하의 레코드가 들어오면 재개된 것이므로 대기 상태를 해제한다.
+     */
+    private boolean isWaiting(TopicPartition partition, long offset) {
+        Long waitingOffset = waitingOffsets.get(partition);
+        if (waitingOffset == null) {
+            return false;
+        }
+        if (offset > waitingOffset) {
+            return true;
+        }
+        waitingOffsets.remove(partition, waitingOffset);
+        return false;
+    }
+
+    /**
+     * 파티션을 레코드의 오프셋으로 되돌리고 멈춘 뒤, delayMillis 뒤에 재개한다.
+     * (컨슈머 스레드에서 호출되며, 멈춤/재개는 컨테이너가 다음 poll 전에 반영한다.)
+     */
+    private void pauseUntilDue(TopicPartition partition, long offset, long delayMillis,
+                               Acknowledgment ack, Consumer<?, ?> consumer) {
+        KafkaListenerEndpointRegistry registry = listenerRegistry.getIfAvailable();
+        MessageListenerContainer container = registry != null ? registry.getListenerContainer(RETRY_LISTENER_ID) : null;
+        if (container == null) {
+            // 컨테이너를 찾을 수 없으면 컨슈머 전체를 멈췄다가 다시 읽는다.
+            ack.nack(Duration.ofMillis(delayMillis));
+            return;
+        }
+
+        waitingOffsets.put(partition, offset);
+        consumer.seek(partition, offset);
+        container.pausePartition(partition);
+        resumeScheduler.schedule(() -> {
+            waitingOffsets.remove(partition, offset);
+            container.resumePartition(partition);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 재시도 토픽 리스너의 구독 패턴 (ex. .*outbox-retry-\d+$)
+     */
+    public String getRetryTopicPattern() {
+        return ".*outbox" + Pattern.quote(properties.getRetryTopic().getRetrySuffix()) + "-\\d+$";
+    }
+
+    /**
+     * 재시도 토픽 리스너의 autoStartup 여부
+     */
+    public boolean isRetryTopicEnabled() {
+        return retryTopicResolver != null;
+    }
+
+    /**
+     * 리스너 컨테이너의 autoStartup 여부를 결정한다.
+     *
+     * @param mode 리스너 동작 방식 이름
+     * @return 현재 설정된 동작 방식과 일치하는지 여부
+     */
+    public boolean isActive(String mode) {
+        return properties.getMode().name().equals(mode);
+    }
+
+    /**
+     * 상태를 업데이트하고 걸린 시간과 처리한 레코드 수를 기록한다.
+     */
+    private void updateStatus(String mode, int records, Runnable update) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            update.run();
+            success = true;
+        } finally {
+            outboxMetrics.recordStatusUpdate(mode, System.nanoTime() - startNanos, records, success);
+        }
+    }
+
+    /**
+     * 중복 처리 방지에 사용할 outbox id를 추출한다. (사용하지 않으면 null)
+     */
+    private Long dedupIdOf(ConsumerRecord<String, byte[]> record) {
+        return deduplicator != null ? parseOutboxId(record) : null;
+    }
+
+    private boolean isDuplicate(ConsumerRecord<String, byte[]> record, Long id) {
+        return deduplicator != null && id != null && deduplicator.isDuplicate(dedupTopicOf(record), id);
+    }
+
+    private void markProcessed(ConsumerRecord<String, byte[]> record, Long id) {
+        if (deduplicator != null && id != null) {
+            deduplicator.markProcessed(dedupTopicOf(record), id);
+        }
+    }
+
+    /**
+     * 재시도 토픽의 레코드도 원래 토픽의 레코드와 같은 항목으로 기록되도록 원래 토픽 이름을 사용한다.
+     */
+    private String dedupTopicOf(ConsumerRecord<String, byte[]> record) {
+        return retryTopicResolver != null ? retryTopicResolver.baseTopicOf(record.topic()) : record.topic();
+    }
+
+    /**
+     * outbox id 헤더에서 outbox id를 추출한다.
+     * 헤더가 없는 메시지(이전 버전의 프로듀서가 보낸 메시지)는 메시지 값을 outbox id로 해석한다.
+     */
+    private Long parseOutboxId(ConsumerRecord<String, byte[]> record) {
+        Header header = record.headers().lastHeader(OutboxHeaders.OUTBOX_ID);
+        byte[] value = header != null ? header.value() : record.value();
+        try {
+            return Long.valueOf(value != null ? new String(value, StandardCharsets.UTF_8) : "");
+        } catch (NumberFormatException e) {
+            // 재시도해도 성공할 수 없는 메시지이므로 건너뛴다.
+            log.warn("Skipping record with invalid outbox id: topic={}, partition={}, offset={}",
+                    record.topic(), record.partition(), record.offset());
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,71 @@
+package com.pulse.event_library.metrics;
+
+import com.pulse.event_library.service.OutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가장 오래된 미발행 Outbox 이벤트의 경과 시간을 계산합니다.
+ * 지표를 수집할 때마다 DB를 조회하지 않도록 조회 결과를 refreshInterval 동안 재사용하며,
+ * 조회 중에 다른 스레드가 호출하면 이전 결과를 그대로 반환합니다.
+ */
+public class OutboxBacklogProbe {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxBacklogProbe.class);
+
+    private final OutboxService outboxService;
+    private final long refreshIntervalMillis;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Instant oldestUnpublishedCreatedAt;
+    private volatile long refreshedAt = Long.MIN_VALUE;
+    private volatile boolean supported = true;
+
+    public OutboxBacklogProbe(OutboxService outboxService, Duration refreshInterval) {
+        this.outboxService = outboxService;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+    }
+
+    /**
+     * 가장 오래된 미발행 이벤트의 경과 시간(초)을 반환합니다.
+     *
+     * @return 경과 시간(초), 미발행 이벤트가 없으면 0, SPI를 구현하지 않았거나 조회에 실패하면 NaN
+     */
+    public double oldestUnpublishedAgeSeconds() {
+        refreshIfStale();
+        if (!supported || refreshedAt == Long.MIN_VALUE) {
+            return Double.NaN;
+        }
+        Instant createdAt = oldestUnpublishedCreatedAt;
+        if (createdAt == null) {
+            return 0.0;
+        }
+        return Math.max(0L, System.currentTimeMillis() - createdAt.toEpochMilli()) / 1000.0;
+    }
+
+    private void refreshIfStale() {
+        long now = System.currentTimeMillis();
+        if (!supported || refreshedAt != Long.MIN_VALUE && now - refreshedAt < refreshIntervalMillis) {
+            return;
+        }
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            oldestUnpublishedCreatedAt = outboxService.findOldestUnpublishedCreatedAt();
+            refreshedAt = now;
+        } catch (UnsupportedOperationException e) {
+            // SPI가 구현되지 않은 경우 더 이상 조회하지 않습니다.
+            supported = false;
+        } catch (Exception e) {
+            log.warn("Failed to query the oldest unpublished outbox event: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+}
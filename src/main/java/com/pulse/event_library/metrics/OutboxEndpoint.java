@@ -0,0 +1,189 @@
+package com.pulse.event_library.metrics;
+
+import com.pulse.event_library.config.OutboxConsumerProperties;
+import com.pulse.event_library.consumer.KeyOrderedExecutor;
+import com.pulse.event_library.consumer.OutboxConsumerScaler;
+import com.pulse.event_library.dedup.OutboxDeduplicator;
+import com.pulse.event_library.dispatcher.OutboxDispatcher;
+import com.pulse.event_library.journal.OutboxSpillJournal;
+import com.pulse.event_library.producer.OutboxCircuitBreaker;
+import com.pulse.event_library.producer.OutboxTransactionalPublisher;
+import com.pulse.event_library.relay.OutboxRelay;
+import com.pulse.event_library.retention.OutboxRetention;
+import com.pulse.event_library.routing.OutboxTopicRouter;
+import com.pulse.event_library.status.OutboxStatusBuffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outbox 파이프라인의 상태를 요약하는 액추에이터 엔드포인트입니다. (/actuator/outbox)
+ * management.endpoints.web.exposure.include에 outbox를 추가해야 노출됩니다.
+ */
+@Endpoint(id = "outbox")
+public class OutboxEndpoint {
+
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxBacklogProbe backlogProbe;
+    private final OutboxConsumerProperties consumerProperties;
+    private final OutboxTopicRouter topicRouter;
+    private final ObjectProvider<OutboxDispatcher> outboxDispatcher;
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+    private final ObjectProvider<KeyOrderedExecutor> keyOrderedExecutor;
+    private final ObjectProvider<OutboxConsumerScaler> outboxConsumerScaler;
+    private final ObjectProvider<OutboxDeduplicator> outboxDeduplicator;
+    private final ObjectProvider<OutboxSpillJournal> outboxSpillJournal;
+    private final ObjectProvider<OutboxCircuitBreaker> outboxCircuitBreaker;
+    private final ObjectProvider<OutboxTransactionalPublisher> outboxTransactionalPublisher;
+    private final ObjectProvider<OutboxStatusBuffer> outboxStatusBuffer;
+    private final ObjectProvider<OutboxRetention> outboxRetention;
+
+    public OutboxEndpoint(OutboxMetrics outboxMetrics,
+                          OutboxBacklogProbe backlogProbe,
+                          OutboxConsumerProperties consumerProperties,
+                          OutboxTopicRouter topicRouter,
+                          ObjectProvider<OutboxDispatcher> outboxDispatcher,
+                          ObjectProvider<OutboxRelay> outboxRelay,
+                          ObjectProvider<KeyOrderedExecutor> keyOrderedExecutor,
+                          ObjectProvider<OutboxConsumerScaler> outboxConsumerScaler,
+                          ObjectProvider<OutboxDeduplicator> outboxDeduplicator,
+                          ObjectProvider<OutboxSpillJournal> outboxSpillJournal,
+                          ObjectProvider<OutboxCircuitBreaker> outboxCircuitBreaker,
+                          ObjectProvider<OutboxTransactionalPublisher> outboxTransactionalPublisher,
+                          ObjectProvider<OutboxStatusBuffer> outboxStatusBuffer,
+                          ObjectProvider<OutboxRetention> outboxRetention) {
+        this.outboxMetrics = outboxMetrics;
+        this.backlogProbe = backlogProbe;
+        this.consumerProperties = consumerProperties;
+        this.topicRouter = topicRouter;
+        this.outboxDispatcher = outboxDispatcher;
+        this.outboxRelay = outboxRelay;
+        this.keyOrderedExecutor = keyOrderedExecutor;
+        this.outboxConsumerScaler = outboxConsumerScaler;
+        this.outboxDeduplicator = outboxDeduplicator;
+        this.outboxSpillJournal = outboxSpillJournal;
+        this.outboxCircuitBreaker = outboxCircuitBreaker;
+        this.outboxTransactionalPublisher = outboxTransactionalPublisher;
+        this.outboxStatusBuffer = outboxStatusBuffer;
+        this.outboxRetention = outboxRetention;
+    }
+
+    @ReadOperation
+    public Map<String, Object> outbox() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+
+        // 1. 발행 결과
+        Map<String, Object> publish = new LinkedHashMap<>();
+        publish.put("processed", outboxMetrics.getProcessedCount());
+        publish.put("failed", outboxMetrics.getFailedCount());
+        publish.put("retried", outboxMetrics.getRetriedCount());
+        publish.put("spilled", outboxMetrics.getSpilledCount());
+        publish.put("oldestUnpublishedAgeSeconds", backlogProbe.oldestUnpublishedAgeSeconds());
+        summary.put("publish", publish);
+
+        // 2. 비동기 디스패처
+        OutboxDispatcher dispatcher = outboxDispatcher.getIfAvailable();
+        if (dispatcher != null) {
+            Map<String, Object> dispatch = new LinkedHashMap<>();
+            dispatch.put("running", dispatcher.isRunning());
+            dispatch.put("queueDepth", dispatcher.getQueueDepth());
+            dispatch.put("remainingCapacity", dispatcher.getRemainingCapacity());
+            dispatch.put("inFlight", dispatcher.getInFlight());
+            dispatch.put("dropped", dispatcher.getDroppedCount());
+            dispatch.put("callerRuns", dispatcher.getCallerRunsCount());
+            summary.put("dispatcher", dispatch);
+        }
+
+        // 3. 릴레이
+        OutboxRelay relay = outboxRelay.getIfAvailable();
+        if (relay != null) {
+            Map<String, Object> relaySummary = new LinkedHashMap<>();
+            relaySummary.put("running", relay.isRunning());
+            relaySummary.put("relayed", relay.getRelayedCount());
+            relaySummary.put("parked", relay.getParkedCount());
+            summary.put("relay", relaySummary);
+        }
+
+        // 4. 상태 변경 리스너
+        Map<String, Object> consumer = new LinkedHashMap<>();
+        consumer.put("mode", consumerProperties.getMode());
+        OutboxConsumerScaler scaler = outboxConsumerScaler.getIfAvailable();
+        if (scaler != null) {
+            Map<String, Object> listeners = new LinkedHashMap<>();
+            for (String listenerId : scaler.getListenerIds()) {
+                int concurrency = scaler.getConcurrency(listenerId);
+                if (concurrency > 0) {
+                    listeners.put(listenerId, Map.of("concurrency", concurrency, "lag", scaler.getLag(listenerId)));
+                }
+            }
+            consumer.put("listeners", listeners);
+        }
+        KeyOrderedExecutor executor = keyOrderedExecutor.getIfAvailable();
+        if (executor != null && consumerProperties.getMode() == OutboxConsumerProperties.Mode.KEY_ORDERED) {
+            consumer.put("inFlight", executor.getInFlight());
+        }
+        OutboxDeduplicator deduplicator = outboxDeduplicator.getIfAvailable();
+        if (deduplicator != null) {
+            consumer.put("dedupHits", deduplicator.getHitCount());
+            consumer.put("dedupMisses", deduplicator.getMissCount());
+            consumer.put("dedupSize", deduplicator.getSize());
+        }
+        summary.put("consumer", consumer);
+
+        // 5. 회로 차단기 / 로컬 저널
+        OutboxCircuitBreaker circuitBreaker = outboxCircuitBreaker.getIfAvailable();
+        OutboxSpillJournal journal = outboxSpillJournal.getIfAvailable();
+        if (circuitBreaker != null && journal != null) {
+            Map<String, Object> journalSummary = new LinkedHashMap<>();
+            journalSummary.put("circuit", circuitBreaker.getState());
+            journalSummary.put("pending", journal.getPendingCount());
+            journalSummary.put("sizeBytes", journal.getSize());
+            summary.put("journal", journalSummary);
+        }
+
+        // 6. 트랜잭션 발행
+        OutboxTransactionalPublisher transactionalPublisher = outboxTransactionalPublisher.getIfAvailable();
+        if (transactionalPublisher != null) {
+            Map<String, Object> transaction = new LinkedHashMap<>();
+            transaction.put("queueDepth", transactionalPublisher.getQueueSize());
+            transaction.put("committed", transactionalPublisher.getCommittedCount());
+            transaction.put("aborted", transactionalPublisher.getAbortedCount());
+            summary.put("transaction", transaction);
+        }
+
+        // 7. 상태 변경 쓰기 지연
+        OutboxStatusBuffer statusBuffer = outboxStatusBuffer.getIfAvailable();
+        if (statusBuffer != null) {
+            Map<String, Object> statusSummary = new LinkedHashMap<>();
+            statusSummary.put("pending", statusBuffer.getPendingCount());
+            statusSummary.put("flushed", statusBuffer.getFlushedCount());
+            statusSummary.put("coalesced", statusBuffer.getCoalescedCount());
+            statusSummary.put("dropped", statusBuffer.getDroppedCount());
+            summary.put("statusBuffer", statusSummary);
+        }
+
+        // 8. 보존 기간 정리
+        OutboxRetention retention = outboxRetention.getIfAvailable();
+        if (retention != null) {
+            Map<String, Object> retentionSummary = new LinkedHashMap<>();
+            retentionSummary.put("mode", retention.getMode());
+            retentionSummary.put("removed", retention.getRemovedCount());
+            retentionSummary.put("tableRows", retention.getTableRows());
+            retentionSummary.put("lastRunAt", retention.getLastRunAt());
+            summary.put("retention", retentionSummary);
+        }
+
+        // 9. 토픽 라우팅
+        Map<String, Object> routing = new LinkedHashMap<>();
+        routing.put("configured", topicRouter.getConfiguredTopics());
+        routing.put("cached", topicRouter.getCachedTopics());
+        routing.put("partitions", topicRouter.getPartitionCounts());
+        summary.put("routing", routing);
+
+        return summary;
+    }
+
+}
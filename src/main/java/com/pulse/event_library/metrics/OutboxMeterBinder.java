@@ -0,0 +1,201 @@
+package com.pulse.event_library.metrics;
+
+import com.pulse.event_library.consumer.KeyOrderedExecutor;
+import com.pulse.event_library.consumer.OutboxConsumerScaler;
+import com.pulse.event_library.dedup.OutboxDeduplicator;
+import com.pulse.event_library.dispatcher.OutboxDispatcher;
+import com.pulse.event_library.journal.OutboxSpillJournal;
+import com.pulse.event_library.producer.OutboxCircuitBreaker;
+import com.pulse.event_library.producer.OutboxTransactionalPublisher;
+import com.pulse.event_library.relay.OutboxRelay;
+import com.pulse.event_library.retention.OutboxRetention;
+import com.pulse.event_library.status.OutboxStatusBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 구성 요소의 상태(대기열 깊이, 미발행 이벤트의 경과 시간 등)를 게이지로 등록합니다.
+ * 활성화된 구성 요소의 게이지만 등록하며, 값은 지표를 수집할 때 구성 요소에서 직접 읽습니다.
+ */
+public class OutboxMeterBinder implements MeterBinder {
+
+    private final ObjectProvider<OutboxDispatcher> outboxDispatcher;
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+    private final ObjectProvider<KeyOrderedExecutor> keyOrderedExecutor;
+    private final ObjectProvider<OutboxConsumerScaler> outboxConsumerScaler;
+    private final ObjectProvider<OutboxDeduplicator> outboxDeduplicator;
+    private final ObjectProvider<OutboxSpillJournal> outboxSpillJournal;
+    private final ObjectProvider<OutboxCircuitBreaker> outboxCircuitBreaker;
+    private final ObjectProvider<OutboxTransactionalPublisher> outboxTransactionalPublisher;
+    private final ObjectProvider<OutboxStatusBuffer> outboxStatusBuffer;
+    private final ObjectProvider<OutboxRetention> outboxRetention;
+    private final OutboxBacklogProbe backlogProbe;
+
+    public OutboxMeterBinder(ObjectProvider<OutboxDispatcher> outboxDispatcher,
+                             ObjectProvider<OutboxRelay> outboxRelay,
+                             ObjectProvider<KeyOrderedExecutor> keyOrderedExecutor,
+                             ObjectProvider<OutboxConsumerScaler> outboxConsumerScaler,
+                             ObjectProvider<OutboxDeduplicator> outboxDeduplicator,
+                             ObjectProvider<OutboxSpillJournal> outboxSpillJournal,
+                             ObjectProvider<OutboxCircuitBreaker> outboxCircuitBreaker,
+                             ObjectProvider<OutboxTransactionalPublisher> outboxTransactionalPublisher,
+                             ObjectProvider<OutboxStatusBuffer> outboxStatusBuffer,
+                             ObjectProvider<OutboxRetention> outboxRetention,
+                             OutboxBacklogProbe backlogProbe) {
+        this.outboxDispatcher = outboxDispatcher;
+        this.outboxRelay = outboxRelay;
+        this.keyOrderedExecutor = keyOrderedExecutor;
+        this.outboxConsumerScaler = outboxConsumerScaler;
+        this.outboxDeduplicator = outboxDeduplicator;
+        this.outboxSpillJournal = outboxSpillJournal;
+        this.outboxCircuitBreaker = outboxCircuitBreaker;
+        this.outboxTransactionalPublisher = outboxTransactionalPublisher;
+        this.outboxStatusBuffer = outboxStatusBuffer;
+        this.outboxRetention = outboxRetention;
+        this.backlogProbe = backlogProbe;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 1. 미발행 이벤트의 경과 시간
+        TimeGauge.builder("pulse.outbox.oldest.unpublished.age", backlogProbe, TimeUnit.SECONDS,
+                        OutboxBacklogProbe::oldestUnpublishedAgeSeconds)
+                .description("가장 오래된 미발행 Outbox 이벤트의 경과 시간")
+                .register(registry);
+
+        // 2. 비동기 디스패처
+        OutboxDispatcher dispatcher = outboxDispatcher.getIfAvailable();
+        if (dispatcher != null) {
+            Gauge.builder("pulse.outbox.dispatcher.queue.depth", dispatcher, OutboxDispatcher::getQueueDepth)
+                    .description("디스패처 대기열에 쌓인 이벤트 수")
+                    .register(registry);
+            Gauge.builder("pulse.outbox.dispatcher.queue.remaining", dispatcher, OutboxDispatcher::getRemainingCapacity)
+                    .description("디스패처 대기열의 남은 용량")
+                    .register(registry);
+            Gauge.builder("pulse.outbox.dispatcher.in.flight", dispatcher, OutboxDispatcher::getInFlight)
+                    .description("상태 변경까지 끝나지 않은 디스패처의 발행 수")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.dispatcher.dropped", dispatcher, OutboxDispatcher::getDroppedCount)
+                    .description("대기열이 가득 차 릴레이로 넘긴 이벤트 수")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.dispatcher.caller.runs", dispatcher, OutboxDispatcher::getCallerRunsCount)
+                    .description("대기열이 가득 차 호출 스레드에서 발행한 이벤트 수")
+                    .register(registry);
+        }
+
+        // 3. 릴레이
+        OutboxRelay relay = outboxRelay.getIfAvailable();
+        if (relay != null) {
+            FunctionCounter.builder("pulse.outbox.relay.relayed", relay, OutboxRelay::getRelayedCount)
+                    .description("릴레이가 재발행한 이벤트 수")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.relay.parked", relay, OutboxRelay::getParkedCount)
+                    .description("재발행 시도 횟수를 모두 써서 종료 상태로 변경한 이벤트 수")
+                    .register(registry);
+        }
+
+        // 4. 상태 변경 리스너
+        KeyOrderedExecutor executor = keyOrderedExecutor.getIfAvailable();
+        if (executor != null) {
+            Gauge.builder("pulse.outbox.consumer.in.flight", executor, KeyOrderedExecutor::getInFlight)
+                    .description("키 순서 보장 레인에서 처리 중이거나 대기 중인 레코드 수")
+                    .register(registry);
+        }
+        OutboxConsumerScaler scaler = outboxConsumerScaler.getIfAvailable();
+        if (scaler != null) {
+            for (String listenerId : scaler.getListenerIds()) {
+                Gauge.builder("pulse.outbox.consumer.lag", scaler, s -> s.getLag(listenerId))
+                        .description("리스너가 구독하는 토픽의 컨슈머 그룹 지연 건수 (마지막 조회 결과)")
+                        .tag("listener", listenerId)
+                        .register(registry);
+                Gauge.builder("pulse.outbox.consumer.concurrency", scaler, s -> s.getConcurrency(listenerId))
+                        .description("리스너 컨테이너의 컨슈머 스레드 수")
+                        .tag("listener", listenerId)
+                        .register(registry);
+            }
+        }
+        OutboxDeduplicator deduplicator = outboxDeduplicator.getIfAvailable();
+        if (deduplicator != null) {
+            FunctionCounter.builder("pulse.outbox.dedup", deduplicator, OutboxDeduplicator::getHitCount)
+                    .description("중복 처리 방지 캐시 조회 결과")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.dedup", deduplicator, OutboxDeduplicator::getMissCount)
+                    .description("중복 처리 방지 캐시 조회 결과")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("pulse.outbox.dedup.size", deduplicator, OutboxDeduplicator::getSize)
+                    .description("중복 처리 방지 캐시에 기억하고 있는 항목 수")
+                    .register(registry);
+        }
+
+        // 5. 회로 차단기 / 로컬 저널
+        OutboxCircuitBreaker circuitBreaker = outboxCircuitBreaker.getIfAvailable();
+        if (circuitBreaker != null) {
+            Gauge.builder("pulse.outbox.circuit.open", circuitBreaker, breaker -> breaker.isClosed() ? 0 : 1)
+                    .description("Kafka 전송 회로가 열려 있는지 여부 (1: OPEN 또는 HALF_OPEN)")
+                    .register(registry);
+        }
+        OutboxSpillJournal journal = outboxSpillJournal.getIfAvailable();
+        if (journal != null) {
+            Gauge.builder("pulse.outbox.journal.pending", journal, OutboxSpillJournal::getPendingCount)
+                    .description("로컬 저널에서 재전송을 기다리는 이벤트 수")
+                    .register(registry);
+            Gauge.builder("pulse.outbox.journal.size", journal, OutboxSpillJournal::getSize)
+                    .description("로컬 저널 세그먼트 파일의 전체 크기")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
+        // 6. 트랜잭션 발행
+        OutboxTransactionalPublisher transactionalPublisher = outboxTransactionalPublisher.getIfAvailable();
+        if (transactionalPublisher != null) {
+            Gauge.builder("pulse.outbox.transaction.queue.depth", transactionalPublisher, OutboxTransactionalPublisher::getQueueSize)
+                    .description("트랜잭션을 기다리는 이벤트 수")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.transactions", transactionalPublisher, OutboxTransactionalPublisher::getCommittedCount)
+                    .description("트랜잭션 발행 결과")
+                    .tag("outcome", "committed")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.transactions", transactionalPublisher, OutboxTransactionalPublisher::getAbortedCount)
+                    .description("트랜잭션 발행 결과")
+                    .tag("outcome", "aborted")
+                    .register(registry);
+        }
+
+        // 7. 상태 변경 쓰기 지연
+        OutboxStatusBuffer statusBuffer = outboxStatusBuffer.getIfAvailable();
+        if (statusBuffer != null) {
+            Gauge.builder("pulse.outbox.status.buffer.pending", statusBuffer, OutboxStatusBuffer::getPendingCount)
+                    .description("반영을 기다리는 상태 변경 수")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.status.buffer.writes", statusBuffer, OutboxStatusBuffer::getFlushedCount)
+                    .description("상태 변경 버퍼의 처리 결과")
+                    .tag("outcome", "flushed")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.status.buffer.writes", statusBuffer, OutboxStatusBuffer::getCoalescedCount)
+                    .description("상태 변경 버퍼의 처리 결과")
+                    .tag("outcome", "coalesced")
+                    .register(registry);
+            FunctionCounter.builder("pulse.outbox.status.buffer.writes", statusBuffer, OutboxStatusBuffer::getDroppedCount)
+                    .description("상태 변경 버퍼의 처리 결과")
+                    .tag("outcome", "dropped")
+                    .register(registry);
+        }
+
+        // 8. 보존 기간 정리 (정리 속도는 pulse.outbox.retention.rows 카운터로 기록)
+        OutboxRetention retention = outboxRetention.getIfAvailable();
+        if (retention != null) {
+            Gauge.builder("pulse.outbox.table.rows", retention, OutboxRetention::getTableRows)
+                    .description("Outbox 테이블의 행 수 (보존 기간 정리 후 조회)")
+                    .register(registry);
+        }
+    }
+
+}
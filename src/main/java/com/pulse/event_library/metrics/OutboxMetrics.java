@@ -0,0 +1,259 @@
+package com.pulse.event_library.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbox 파이프라인(저장 -> 전송 -> 상태 변경)의 Micrometer 지표를 기록합니다.
+ * 태그 조합별 지표는 처음 사용할 때 한 번만 등록하고 캐시하므로, 기록할 때마다 레지스트리를 조회하지 않습니다.
+ */
+public class OutboxMetrics {
+
+    public static final String SAVE = "pulse.outbox.save";
+    public static final String SAVE_BATCH_SIZE = "pulse.outbox.save.batch.size";
+    public static final String SEND = "pulse.outbox.send";
+    public static final String SEND_RETRIES = "pulse.outbox.send.retries";
+    public static final String EVENTS = "pulse.outbox.events";
+    public static final String STATUS_UPDATE = "pulse.outbox.status.update";
+    public static final String STATUS_RECORDS = "pulse.outbox.status.records";
+    public static final String RETENTION = "pulse.outbox.retention";
+    public static final String RETENTION_ROWS = "pulse.outbox.retention.rows";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+    private final boolean percentileHistogram;
+
+    private final Timer saveTimer;
+    private final DistributionSummary saveBatchSize;
+    private final ConcurrentMap<SendKey, SendMeters> sendMeters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SendKey, Counter> retryCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, StatusMeters> statusMeters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, StatusMeters> retentionMeters = new ConcurrentHashMap<>();
+
+    // 액추에이터 엔드포인트에서 사용하는 전체 합계
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+
+    public OutboxMetrics(MeterRegistry registry, boolean percentileHistogram) {
+        this.registry = registry;
+        this.percentileHistogram = percentileHistogram;
+        this.saveTimer = Timer.builder(SAVE)
+                .description("Outbox 테이블 저장 시간")
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+        this.saveBatchSize = DistributionSummary.builder(SAVE_BATCH_SIZE)
+                .description("한 번에 저장한 Outbox 이벤트 수")
+                .register(registry);
+    }
+
+    /**
+     * Outbox 테이블 저장을 기록합니다.
+     *
+     * @param nanos 저장에 걸린 시간(ns)
+     * @param count 저장한 이벤트 수
+     */
+    public void recordSave(long nanos, int count) {
+        saveTimer.record(nanos, TimeUnit.NANOSECONDS);
+        saveBatchSize.record(count);
+    }
+
+    /**
+     * 한 번의 Kafka 전송 시도(전송 ~ 브로커 응답)를 기록합니다.
+     *
+     * @param eventType 이벤트 타입
+     * @param topic     토픽 이름
+     * @param nanos     브로커 응답까지 걸린 시간(ns)
+     * @param success   전송 성공 여부
+     */
+    public void recordSend(String eventType, String topic, long nanos, boolean success) {
+        SendMeters meters = sendMeters(eventType, topic);
+        (success ? meters.sendSuccess : meters.sendFailure).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Kafka 전송 재시도를 기록합니다.
+     *
+     * @param eventType 이벤트 타입 (Outbox 이벤트가 아닌 전송은 null)
+     * @param topic     토픽 이름
+     */
+    public void recordRetry(String eventType, String topic) {
+        SendKey key = new SendKey(eventType != null ? eventType : UNKNOWN, topic != null ? topic : UNKNOWN);
+        retryCounters.computeIfAbsent(key, k -> Counter.builder(SEND_RETRIES)
+                .description("Kafka 전송 재시도 횟수")
+                .tag("event.type", k.eventType())
+                .tag("topic", k.topic())
+                .register(registry)).increment();
+        retriedCount.increment();
+    }
+
+    /**
+     * 최종 전송 결과(처리 완료 / 실패)를 기록합니다.
+     *
+     * @param eventType 이벤트 타입
+     * @param topic     토픽 이름
+     * @param success   처리 완료 여부
+     */
+    public void recordPublished(String eventType, String topic, boolean success) {
+        SendMeters meters = sendMeters(eventType, topic);
+        if (success) {
+            meters.processed.increment();
+            processedCount.increment();
+        } else {
+            meters.failed.increment();
+            failedCount.increment();
+        }
+    }
+
+    /**
+     * 브로커 장애로 로컬 저널에 기록한 이벤트를 기록합니다. (재전송 결과는 recordPublished로 기록)
+     *
+     * @param eventType 이벤트 타입
+     * @param topic     토픽 이름
+     */
+    public void recordSpilled(String eventType, String topic) {
+        sendMeters(eventType, topic).spilled.increment();
+        spilledCount.increment();
+    }
+
+    /**
+     * 상태 변경 리스너와 상태 변경 쓰기 지연 버퍼의 상태 업데이트를 기록합니다.
+     *
+     * @param mode    리스너 동작 방식 (record, batch, key_ordered, retry) 또는 write_behind
+     * @param nanos   상태 업데이트에 걸린 시간(ns)
+     * @param records 처리한 레코드 수
+     * @param success 성공 여부
+     */
+    public void recordStatusUpdate(String mode, long nanos, int records, boolean success) {
+        StatusMeters meters = statusMeters.computeIfAbsent(mode, this::newStatusMeters);
+        (success ? meters.success : meters.failure).record(nanos, TimeUnit.NANOSECONDS);
+        meters.records.increment(records);
+    }
+
+    /**
+     * 보존 기간 정리의 한 번의 SPI 호출(chunk)을 기록합니다.
+     *
+     * @param mode    정리 방식 (purge, archive)
+     * @param nanos   정리에 걸린 시간(ns)
+     * @param rows    정리한 행 수
+     * @param success 성공 여부
+     */
+    public void recordRetention(String mode, long nanos, long rows, boolean success) {
+        StatusMeters meters = retentionMeters.computeIfAbsent(mode, this::newRetentionMeters);
+        (success ? meters.success : meters.failure).record(nanos, TimeUnit.NANOSECONDS);
+        meters.records.increment(rows);
+    }
+
+    // 처리 완료된 이벤트 수
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+
+    // 최종 실패한 이벤트 수
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    // 전송 재시도 횟수
+    public long getRetriedCount() {
+        return retriedCount.sum();
+    }
+
+    // 로컬 저널에 기록한 이벤트 수
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    private SendMeters sendMeters(String eventType, String topic) {
+        SendKey key = new SendKey(eventType != null ? eventType : UNKNOWN, topic != null ? topic : UNKNOWN);
+        SendMeters meters = sendMeters.get(key);
+        return meters != null ? meters : sendMeters.computeIfAbsent(key, this::newSendMeters);
+    }
+
+    private SendMeters newSendMeters(SendKey key) {
+        return new SendMeters(
+                sendTimer(key, "success"),
+                sendTimer(key, "failure"),
+                eventCounter(key, "processed"),
+                eventCounter(key, "failed"),
+                eventCounter(key, "spilled")
+        );
+    }
+
+    private Timer sendTimer(SendKey key, String outcome) {
+        return Timer.builder(SEND)
+                .description("Kafka 전송부터 브로커 응답까지 걸린 시간 (전송 시도별)")
+                .tag("event.type", key.eventType())
+                .tag("topic", key.topic())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    private Counter eventCounter(SendKey key, String outcome) {
+        return Counter.builder(EVENTS)
+                .description("최종 전송 결과별 Outbox 이벤트 수")
+                .tag("event.type", key.eventType())
+                .tag("topic", key.topic())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private StatusMeters newStatusMeters(String mode) {
+        return new StatusMeters(
+                statusTimer(mode, "success"),
+                statusTimer(mode, "failure"),
+                Counter.builder(STATUS_RECORDS)
+                        .description("상태 변경 리스너가 처리한 레코드 수")
+                        .tag("mode", mode)
+                        .register(registry)
+        );
+    }
+
+    private StatusMeters newRetentionMeters(String mode) {
+        return new StatusMeters(
+                retentionTimer(mode, "success"),
+                retentionTimer(mode, "failure"),
+                Counter.builder(RETENTION_ROWS)
+                        .description("보존 기간 정리로 삭제하거나 보관 테이블로 옮긴 Outbox 행 수")
+                        .tag("mode", mode)
+                        .register(registry)
+        );
+    }
+
+    private Timer retentionTimer(String mode, String outcome) {
+        return Timer.builder(RETENTION)
+                .description("보존 기간 정리의 한 번의 SPI 호출(chunk)에 걸린 시간")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Timer statusTimer(String mode, String outcome) {
+        return Timer.builder(STATUS_UPDATE)
+                .description("Outbox 상태 업데이트 시간")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+    }
+
+    private record SendKey(String eventType, String topic) {
+    }
+
+    private record SendMeters(Timer sendSuccess, Timer sendFailure, Counter processed, Counter failed, Counter spilled) {
+    }
+
+    private record StatusMeters(Timer success, Timer failure, Counter records) {
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.pulse.event_library.producer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kafka 전송 결과로 브로커 장애를 감지하는 회로 차단기입니다.
+ *
+ * - CLOSED: 전송을 허용합니다. 재시도 가능한 전송 실패가 연속으로 임계값에 도달하면 OPEN으로 바뀝니다.
+ * - OPEN: 전송을 허용하지 않습니다. (이벤트는 로컬 저널에 기록) 열린 시간이 지나면 한 번의 시험 전송을 허용합니다.
+ * - HALF_OPEN: 시험 전송이 성공하면 CLOSED, 실패하면 다시 OPEN으로 바뀝니다.
+ *
+ * 상태 전환은 드물게 일어나므로 잠금으로 처리하고, 전송마다 호출되는 확인은 volatile 읽기만 수행합니다.
+ */
+public class OutboxCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+
+    /**
+     * @param failureThreshold 회로를 여는 연속 실패 횟수
+     * @param openDuration     회로가 열린 뒤 시험 전송을 허용하기까지의 시간
+     */
+    public OutboxCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 전송을 허용하는지 확인합니다.
+     * OPEN 상태에서 열린 시간이 지났으면 HALF_OPEN으로 바꾸고, 호출한 쪽에 한 번의 시험 전송을 허용합니다.
+     *
+     * @return 전송을 허용하면 true
+     */
+    public boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                return true;
+            }
+            return state == State.CLOSED;
+        }
+    }
+
+    /**
+     * 전송 성공을 기록합니다. (HALF_OPEN이면 회로를 닫습니다.)
+     */
+    public void onSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        if (state != State.CLOSED) {
+            synchronized (this) {
+                if (state != State.CLOSED) {
+                    state = State.CLOSED;
+                    log.info("Outbox circuit breaker closed, Kafka sends resumed");
+                }
+            }
+        }
+    }
+
+    /**
+     * 재시도 가능한 전송 실패(브로커 연결 실패, 타임아웃 등)를 기록합니다.
+     */
+    public void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            open();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    // 회로가 닫혀 있는지 여부 (시험 전송 기회를 사용하지 않고 확인)
+    public boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    private synchronized void open() {
+        if (state == State.OPEN) {
+            return;
+        }
+        openedAt = System.nanoTime();
+        state = State.OPEN;
+        log.warn("Outbox circuit breaker opened after {} consecutive send failures, spilling events to the local journal",
+                consecutiveFailures.get());
+    }
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+}
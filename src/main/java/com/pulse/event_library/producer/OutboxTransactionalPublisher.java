@@ -0,0 +1,322 @@
+package com.pulse.event_library.producer;
+
+import com.pulse.event_library.codec.EncodedPayload;
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.retry.RetryPolicy;
+import com.pulse.event_library.service.KafkaProducerService;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.tracing.OutboxTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 여러 Outbox 이벤트를 하나의 Kafka 트랜잭션으로 묶어 발행합니다.
+ *
+ * 이벤트는 제한된 크기의 큐에 담기며, 전송 스레드 하나가 최대 maxBatchSize건 또는 첫 이벤트를 받은 뒤 maxBatchDelay가 지날 때까지 모아
+ * 멱등성 / 트랜잭션 프로듀서로 한 번에 전송하고 커밋합니다. (전송 스레드가 하나이므로 큐에 담긴 순서대로 커밋됩니다.)
+ * 트랜잭션이 커밋된 뒤에만 배치의 Outbox 이벤트를 한 번에 처리 완료 상태로 변경하며,
+ * 커밋에 실패하면 트랜잭션을 중단하고 재시도 정책에 따라 배치 전체를 다시 전송합니다.
+ *
+ * 중단된 트랜잭션의 레코드는 read_committed 컨슈머에게 전달되지 않으므로, 재전송으로 인한 중복 수신이 생기지 않습니다.
+ */
+public class OutboxTransactionalPublisher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxTransactionalPublisher.class);
+    private static final long POLL_TIMEOUT_MILLIS = 200L;
+
+    private final KafkaTemplate<String, byte[]> transactionalTemplate;
+    private final KafkaProducerService kafkaProducerService;
+    private final OutboxService outboxService;
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxTracing outboxTracing;
+    private final RetryPolicy retryPolicy;
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+    private final long offerTimeoutNanos;
+    private final BlockingQueue<Pending> queue;
+    private final ThreadFactory threadFactory;
+
+    private final LongAdder committedCount = new LongAdder();
+    private final LongAdder abortedCount = new LongAdder();
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * @param transactionalTemplate 트랜잭션 프로듀서 팩토리로 생성한 Kafka 템플릿
+     * @param kafkaProducerService  Kafka 전송 서비스 (레코드 생성에 사용)
+     * @param outboxService         Outbox 서비스
+     * @param outboxMetrics         Outbox 지표
+     * @param outboxTracing         Outbox 트레이싱
+     * @param retryPolicy           트랜잭션 재시도 정책
+     * @param maxBatchSize          한 트랜잭션에 담을 최대 이벤트 수
+     * @param maxBatchDelay         첫 이벤트를 받은 뒤 이벤트를 모으는 최대 시간
+     * @param queueCapacity         큐의 크기
+     * @param offerTimeout          큐가 가득 찼을 때 기다리는 최대 시간
+     * @param threadFactory         전송 스레드를 생성할 ThreadFactory
+     */
+    public OutboxTransactionalPublisher(KafkaTemplate<String, byte[]> transactionalTemplate,
+                                        KafkaProducerService kafkaProducerService,
+                                        OutboxService outboxService,
+                                        OutboxMetrics outboxMetrics,
+                                        OutboxTracing outboxTracing,
+                                        RetryPolicy retryPolicy,
+                                        int maxBatchSize,
+                                        Duration maxBatchDelay,
+                                        int queueCapacity,
+                                        Duration offerTimeout,
+                                        ThreadFactory threadFactory) {
+        this.transactionalTemplate = transactionalTemplate;
+        this.kafkaProducerService = kafkaProducerService;
+        this.outboxService = outboxService;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxTracing = outboxTracing;
+        this.retryPolicy = retryPolicy;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayNanos = maxBatchDelay.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * 이벤트를 다음 트랜잭션에 담도록 큐에 추가합니다.
+     * 반환된 Future는 트랜잭션이 커밋되고 Outbox 이벤트가 처리 완료 상태로 변경된 뒤에 완료되며,
+     * 재시도 후에도 커밋하지 못하거나 큐에 담지 못하면 예외로 완료됩니다. (실패 상태 변경은 호출한 쪽에서 수행합니다.)
+     *
+     * @param event   전송할 Outbox 이벤트
+     * @param topic   전송할 Kafka 토픽
+     * @param payload 인코딩된 메시지 값
+     * @param context 발행 컨텍스트 (트레이스 헤더로 주입)
+     * @return 트랜잭션 커밋 결과
+     */
+    public CompletableFuture<Void> publish(OutboxEvent event, String topic, EncodedPayload payload, Context context) {
+        // 1. 레코드를 생성하고 발행 컨텍스트를 트레이스 헤더로 주입합니다.
+        ProducerRecord<String, byte[]> record = kafkaProducerService.createRecord(event, topic, payload);
+        outboxTracing.inject(context, Span.getInvalid(), record.headers());
+
+        // 2. 큐에 추가합니다. (가득 차면 offerTimeout만큼 기다립니다.)
+        Pending pending = new Pending(event, topic, record, new CompletableFuture<>());
+        if (!running) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Outbox transactional publisher is not running"));
+        }
+        try {
+            if (!queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Outbox transaction queue is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        return pending.future();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = threadFactory.newThread(this::publishLoop);
+        worker.start();
+    }
+
+    /**
+     * 새 이벤트를 받지 않고, 큐에 남은 이벤트를 모두 커밋한 뒤 종료합니다.
+     * 종료 중에 추가되어 커밋하지 못한 이벤트는 예외로 완료합니다. (실패 상태로 변경되어 OutboxRelay가 재발행합니다.)
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(
+                new RejectedExecutionException("Outbox transactional publisher has been stopped")));
+        transactionalTemplate.getProducerFactory().reset();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 트랜잭션을 기다리는 이벤트 수
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    // 커밋한 트랜잭션 수
+    public long getCommittedCount() {
+        return committedCount.sum();
+    }
+
+    // 재시도 후에도 커밋하지 못한 트랜잭션 수
+    public long getAbortedCount() {
+        return abortedCount.sum();
+    }
+
+    private void publishLoop() {
+        // 1. 트랜잭션 프로듀서를 미리 초기화합니다. (첫 이벤트가 트랜잭션 코디네이터 조회 / producer id 발급을 기다리지 않도록)
+        warmUp();
+
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 2. 첫 이벤트를 기다립니다.
+                Pending first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                // 3. maxBatchSize건을 채우거나 maxBatchDelay가 지날 때까지 이벤트를 모읍니다.
+                batch.add(first);
+                long deadline = System.nanoTime() + maxBatchDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 4. 하나의 트랜잭션으로 전송하고 커밋합니다.
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Outbox transactional publish failed", e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void warmUp() {
+        try {
+            transactionalTemplate.executeInTransaction(operations -> null);
+        } catch (Exception e) {
+            log.warn("Failed to initialize the outbox transactional producer: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치를 하나의 트랜잭션으로 전송하고, 커밋한 뒤 Outbox 이벤트를 한 번에 처리 완료 상태로 변경합니다.
+     */
+    private void commit(List<Pending> batch) {
+        Span span = outboxTracing.startBatchSpan("[kafka] outbox-transaction", batch.size());
+        long start = System.nanoTime();
+        Exception failure;
+        int attempt = 0;
+
+        try (Scope scope = outboxTracing.makeCurrent(span)) {
+            // 1. 트랜잭션 안에서 모든 레코드를 전송합니다. (커밋 전에 전송 결과를 모두 기다리며, 실패하면 트랜잭션을 중단합니다.)
+            while (true) {
+                attempt++;
+                try {
+                    transactionalTemplate.executeInTransaction(operations -> {
+                        for (Pending pending : batch) {
+                            operations.send(pending.record());
+                        }
+                        return null;
+                    });
+                    failure = null;
+                    break;
+                } catch (Exception e) {
+                    failure = e;
+                    // 1-1. 재시도 가능한 예외이면 대기 후 배치 전체를 새 트랜잭션으로 다시 전송합니다.
+                    if (!retryPolicy.shouldRetry(attempt, e)) {
+                        break;
+                    }
+                    long backoff = retryPolicy.backoffMillis(attempt);
+                    log.warn("Retrying outbox transaction of {} events (attempt {}) in {} ms: {}", batch.size(), attempt + 1, backoff, e.getMessage());
+                    retryKeys(batch).forEach(key -> outboxMetrics.recordRetry(key.eventType(), key.topic()));
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoff));
+                }
+            }
+        }
+
+        long nanos = System.nanoTime() - start;
+        for (Pending pending : batch) {
+            outboxMetrics.recordSend(pending.event().getEventType(), pending.topic(), nanos, failure == null);
+        }
+
+        // 2. 커밋하지 못했으면 모든 이벤트를 예외로 완료합니다.
+        if (failure != null) {
+            abortedCount.increment();
+            log.error("Failed to commit outbox transaction of {} events after {} attempts", batch.size(), attempt, failure);
+            span.recordException(failure);
+            span.end();
+            for (Pending pending : batch) {
+                pending.future().completeExceptionally(failure);
+            }
+            return;
+        }
+
+        // 3. 커밋한 뒤에 Outbox 이벤트를 한 번에 처리 완료 상태로 변경합니다.
+        // (변경에 실패한 이벤트는 처리되지 않은 상태로 남아 OutboxRelay가 재발행하며, 컨슈머 쪽의 중복 처리 방지로 걸러냅니다.)
+        committedCount.increment();
+        List<OutboxEvent> events = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            events.add(pending.event());
+        }
+        try {
+            outboxService.markOutboxEventsProcessed(events);
+        } catch (Exception e) {
+            log.error("Failed to mark {} outbox events processed after the Kafka transaction committed", events.size(), e);
+        } finally {
+            span.end();
+        }
+        for (Pending pending : batch) {
+            pending.future().complete(null);
+        }
+    }
+
+    private static Set<RetryKey> retryKeys(List<Pending> batch) {
+        Set<RetryKey> keys = new LinkedHashSet<>();
+        for (Pending pending : batch) {
+            keys.add(new RetryKey(pending.event().getEventType(), pending.topic()));
+        }
+        return keys;
+    }
+
+    private record RetryKey(String eventType, String topic) {
+    }
+
+    private record Pending(OutboxEvent event, String topic, ProducerRecord<String, byte[]> record, CompletableFuture<Void> future) {
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.pulse.event_library.producer;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 타입별로 사용할 KafkaTemplate을 찾아주는 레지스트리입니다.
+ * 대량 이벤트(처리량 중심)와 지연 시간에 민감한 이벤트가 같은 프로듀서 버퍼를 공유하지 않도록
+ * 프로필마다 별도의 프로듀서를 사용합니다.
+ * 이벤트 타입 -> KafkaTemplate 매핑은 기동 시점에 한 번 만들어 두고 이후에는 조회만 합니다.
+ */
+public class ProducerProfileRegistry implements DisposableBean {
+
+    // delivery.timeout.ms를 지정하지 않은 경우 Kafka 프로듀서의 기본값
+    private static final long DEFAULT_DELIVERY_TIMEOUT_MILLIS = 120_000L;
+
+    private final KafkaTemplate<String, byte[]> defaultTemplate;
+    private final Map<String, KafkaTemplate<String, byte[]>> templatesByProfile;
+    private final Map<String, KafkaTemplate<String, byte[]>> templatesByEventType;
+
+    /**
+     * @param defaultTemplate    매핑되지 않은 이벤트 타입에 사용할 KafkaTemplate
+     * @param templatesByProfile 프로필 이름 -> KafkaTemplate
+     * @param eventTypes         이벤트 타입 -> 프로필 이름
+     */
+    public ProducerProfileRegistry(KafkaTemplate<String, byte[]> defaultTemplate,
+                                   Map<String, KafkaTemplate<String, byte[]>> templatesByProfile,
+                                   Map<String, String> eventTypes) {
+        this.defaultTemplate = defaultTemplate;
+        this.templatesByProfile = Map.copyOf(templatesByProfile);
+
+        Map<String, KafkaTemplate<String, byte[]>> byEventType = new HashMap<>();
+        eventTypes.forEach((eventType, profile) -> byEventType.put(eventType, getTemplate(profile)));
+        this.templatesByEventType = Map.copyOf(byEventType);
+    }
+
+    /**
+     * 이벤트 타입에 매핑된 KafkaTemplate을 반환합니다.
+     *
+     * @param eventType 이벤트 타입
+     * @return 매핑된 KafkaTemplate (없으면 기본 KafkaTemplate)
+     */
+    public KafkaTemplate<String, byte[]> getTemplateForEventType(String eventType) {
+        if (eventType == null) {
+            return defaultTemplate;
+        }
+        return templatesByEventType.getOrDefault(eventType, defaultTemplate);
+    }
+
+    /**
+     * 프로필 이름에 해당하는 KafkaTemplate을 반환합니다.
+     *
+     * @param profile 프로필 이름
+     * @return 프로필의 KafkaTemplate
+     */
+    public KafkaTemplate<String, byte[]> getTemplate(String profile) {
+        KafkaTemplate<String, byte[]> template = templatesByProfile.get(profile);
+        if (template == null) {
+            throw new IllegalStateException("Unknown kafka producer profile: " + profile);
+        }
+        return template;
+    }
+
+    public KafkaTemplate<String, byte[]> getDefaultTemplate() {
+        return defaultTemplate;
+    }
+
+    /**
+     * 기본 / 프로필 프로듀서 중 가장 긴 전송 제한 시간(delivery.timeout.ms)을 반환합니다.
+     * 한 번의 전송 시도가 최종 결과(성공 / 실패)를 받기까지 걸리는 최대 시간입니다.
+     */
+    public Duration getMaxDeliveryTimeout() {
+        long maxMillis = deliveryTimeoutMillis(defaultTemplate);
+        for (KafkaTemplate<String, byte[]> template : templatesByProfile.values()) {
+            maxMillis = Math.max(maxMillis, deliveryTimeoutMillis(template));
+        }
+        return Duration.ofMillis(maxMillis);
+    }
+
+    private static long deliveryTimeoutMillis(KafkaTemplate<String, byte[]> template) {
+        Object value = template.getProducerFactory().getConfigurationProperties().get(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG);
+        return value != null ? Long.parseLong(value.toString()) : DEFAULT_DELIVERY_TIMEOUT_MILLIS;
+    }
+
+    /**
+     * 프로필마다 생성한 프로듀서를 종료합니다. (버퍼에 남은 레코드를 전송한 뒤 종료)
+     * default-profile로 지정되어 기본 템플릿으로 쓰이는 프로필의 프로듀서도 이 레지스트리가 생성했으므로 함께 종료합니다.
+     * (스프링 빈으로 등록된 기본 KafkaTemplate은 프로필 목록에 포함되지 않습니다.)
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (KafkaTemplate<String, byte[]> template : templatesByProfile.values()) {
+            if (template.getProducerFactory() instanceof DisposableBean disposable) {
+                disposable.destroy();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,268 @@
+package com.pulse.event_library.relay;
+
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.service.OutboxClaimRequest;
+import com.pulse.event_library.service.OutboxPublishService;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.tracing.OutboxTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 미처리/실패 상태로 남은 Outbox 행을 주기적으로 선점하여 Kafka로 재발행합니다.
+ * 샤드마다 독립된 폴링 루프를 실행하며, OutboxService.claimOutboxEvents(SKIP LOCKED 방식)로 행을 선점하므로
+ * 여러 인스턴스가 동시에 실행되어도 같은 행을 중복 발행하지 않습니다.
+ *
+ * 행마다 재발행 시도 횟수를 세어 maxAttempts번 시도한 행은 더 이상 선점하지 않으며,
+ * 0번 샤드의 폴링 루프가 maxPollInterval마다 이런 행을 OutboxService.parkOutboxEvents로 종료 상태로 변경합니다.
+ *
+ * 재발행한 이벤트는 같은 파티션 키의 이후 이벤트가 이미 전송된 뒤에 전송될 수 있으므로 키 순서를 보장하지 않습니다.
+ *
+ * 폴링 간격은 결과에 따라 조정됩니다.
+ * - 한 페이지를 가득 채운 경우: 백로그가 있다고 보고 즉시 다음 페이지를 가져옵니다.
+ * - 일부만 채운 경우: 최소 간격으로 폴링합니다.
+ * - 비어있는 경우: 최대 간격까지 간격을 두 배씩 늘립니다.
+ */
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxService outboxService;
+    private final OutboxPublishService outboxPublishService;
+    private final String claimerId;
+    private final int shardCount;
+    private final int batchSize;
+    private final Duration minPollInterval;
+    private final Duration maxPollInterval;
+    private final Duration gracePeriod;
+    private final Duration leaseTime;
+    private final int maxAttempts;
+    private final Duration shutdownTimeout;
+    private final ThreadFactory threadFactory;
+    private final OutboxTracing outboxTracing;
+
+    private final LongAdder relayedCount = new LongAdder();
+    private final LongAdder parkedCount = new LongAdder();
+    private volatile boolean parkSupported = true;
+    private long lastParkedNanos;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public OutboxRelay(OutboxService outboxService,
+                       OutboxPublishService outboxPublishService,
+                       String claimerId,
+                       int shardCount,
+                       int batchSize,
+                       Duration minPollInterval,
+                       Duration maxPollInterval,
+                       Duration gracePeriod,
+                       Duration leaseTime,
+                       int maxAttempts,
+                       Duration shutdownTimeout,
+                       ThreadFactory threadFactory,
+                       OutboxTracing outboxTracing) {
+        this.outboxService = outboxService;
+        this.outboxPublishService = outboxPublishService;
+        this.claimerId = claimerId;
+        this.shardCount = shardCount;
+        this.batchSize = batchSize;
+        this.minPollInterval = minPollInterval;
+        this.maxPollInterval = maxPollInterval;
+        this.gracePeriod = gracePeriod;
+        this.leaseTime = leaseTime;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.shutdownTimeout = shutdownTimeout;
+        this.threadFactory = threadFactory;
+        this.outboxTracing = outboxTracing;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newScheduledThreadPool(shardCount, threadFactory);
+        for (int shard = 0; shard < shardCount; shard++) {
+            scheduler.execute(new ShardPoller(shard));
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    scheduler.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                scheduler.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 릴레이가 재발행한 이벤트 수
+    public long getRelayedCount() {
+        return relayedCount.sum();
+    }
+
+    // 재발행 시도 횟수를 모두 써서 종료 상태로 변경한 이벤트 수
+    public long getParkedCount() {
+        return parkedCount.sum();
+    }
+
+    /**
+     * 하나의 샤드를 담당하는 폴링 루프입니다.
+     * 한 번 실행될 때마다 한 페이지를 선점/발행하고, 결과에 따라 다음 실행을 예약합니다.
+     */
+    private class ShardPoller implements Runnable {
+
+        private final int shard;
+        private Duration interval = minPollInterval;
+
+        private ShardPoller(int shard) {
+            this.shard = shard;
+        }
+
+        @Override
+        public void run() {
+            if (!running) {
+                return;
+            }
+
+            if (shard == 0) {
+                parkExhausted();
+            }
+
+            int claimed;
+            try {
+                claimed = relayOnce();
+            } catch (UnsupportedOperationException e) {
+                // SPI가 구현되지 않은 경우 더 이상 폴링하지 않습니다.
+                log.error("Outbox relay stopped for shard [{}]: {}", shard, e.getMessage());
+                return;
+            } catch (Exception e) {
+                log.warn("Outbox relay failed to claim events for shard [{}]", shard, e);
+                claimed = 0;
+            }
+
+            scheduleNext(claimed);
+        }
+
+        private int relayOnce() {
+            // 1. 유예 시간 이전에 생성된 미처리/실패 행을 한 페이지 선점합니다.
+            long claimedAtNanos = System.nanoTime();
+            OutboxClaimRequest request = new OutboxClaimRequest(
+                    claimerId, shard, shardCount, batchSize, Instant.now().minus(gracePeriod), leaseTime, maxAttempts);
+            List<OutboxEvent> events = outboxService.claimOutboxEvents(request);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            // 2. 선점한 이벤트를 발행합니다. (발행 결과에 따라 처리 완료/실패 상태로 변경됩니다.)
+            // 페이지 단위의 Span을 생성하여 이벤트별 발행 Span을 하나의 트레이스로 묶습니다.
+            Span span = outboxTracing.startBatchSpan("[outbox-relay] publish claimed page", events.size());
+            List<CompletableFuture<Void>> futures = new ArrayList<>(events.size());
+            try (Scope scope = outboxTracing.makeCurrent(span)) {
+                for (OutboxEvent event : events) {
+                    if (!running) {
+                        break;
+                    }
+                    futures.add(outboxPublishService.publish(event));
+                    relayedCount.increment();
+                }
+
+                // 3. 선점이 유지되는 동안 페이지의 상태 변경까지 끝나도록 기다린 뒤 다음 페이지를 선점합니다.
+                // (종료 시 shutdownTimeout이 지나면 중단되며, 상태가 바뀌지 않은 행은 선점이 만료된 뒤 다시 선점됩니다.)
+                long leaseRemainingNanos = leaseTime.toNanos() - (System.nanoTime() - claimedAtNanos);
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                        .get(Math.max(0L, leaseRemainingNanos), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (TimeoutException e) {
+                // 선점이 만료되었으므로 더 기다리지 않습니다. (상태가 바뀌지 않은 행은 다른 인스턴스가 다시 선점할 수 있습니다.)
+                log.warn("Outbox relay page of shard [{}] did not complete within the lease time {}", shard, leaseTime);
+            } catch (ExecutionException e) {
+                // 발행 Future는 예외로 완료되지 않습니다.
+                log.warn("Outbox relay page of shard [{}] completed exceptionally", shard, e.getCause());
+            } finally {
+                span.end();
+            }
+            return events.size();
+        }
+
+        /**
+         * maxPollInterval마다 재발행 시도 횟수를 모두 쓴 행을 종료 상태로 변경합니다.
+         */
+        private void parkExhausted() {
+            long now = System.nanoTime();
+            if (!parkSupported || lastParkedNanos != 0L && now - lastParkedNanos < maxPollInterval.toNanos()) {
+                return;
+            }
+            lastParkedNanos = now;
+            try {
+                long parked = outboxService.parkOutboxEvents(maxAttempts);
+                if (parked > 0) {
+                    parkedCount.add(parked);
+                    log.warn("Parked {} outbox events that failed {} relay attempts", parked, maxAttempts);
+                }
+            } catch (UnsupportedOperationException e) {
+                // SPI가 구현되지 않은 경우 더 이상 호출하지 않습니다. (시도 횟수를 모두 쓴 행은 선점되지 않은 채로 남습니다.)
+                parkSupported = false;
+                log.warn("Outbox relay cannot park exhausted events: {}", e.getMessage());
+            } catch (Exception e) {
+                log.warn("Failed to park exhausted outbox events", e);
+            }
+        }
+
+        private void scheduleNext(int claimed) {
+            long delayMillis;
+            if (claimed >= batchSize) {
+                interval = minPollInterval;
+                delayMillis = 0L;
+            } else if (claimed > 0) {
+                interval = minPollInterval;
+                delayMillis = interval.toMillis();
+            } else {
+                delayMillis = interval.toMillis();
+                Duration doubled = interval.multipliedBy(2);
+                interval = doubled.compareTo(maxPollInterval) > 0 ? maxPollInterval : doubled;
+            }
+
+            try {
+                if (running) {
+                    scheduler.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 다음 실행을 예약하지 않습니다.
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.pulse.event_library.retention;
+
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.service.OutboxRetentionRequest;
+import com.pulse.event_library.service.OutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 보존 기간이 지난 완료(처리 완료/처리 성공) Outbox 행을 주기적으로 삭제하거나 보관 테이블로 옮깁니다.
+ *
+ * interval마다 처리 완료된 지 retention이 지난 행을 OutboxService.purgeOutboxEvents / archiveOutboxEvents로 chunkSize건씩 정리하며,
+ * 한 번의 호출이 chunkSize건을 채우지 못하면 남은 행이 없다고 보고 이번 정리를 끝냅니다.
+ * 운영 트래픽의 DB 자원을 빼앗지 않도록 호출 사이에 쉬어서 초당 정리하는 행 수를 maxRowsPerSecond 이하로 유지합니다.
+ * 기준 시각은 처리 시각(processedBefore)이며, 미처리/실패 행은 릴레이가 재발행해야 하므로 보존 기간과 관계없이 정리하지 않습니다.
+ *
+ * 정리가 끝날 때마다 OutboxService.countOutboxEvents로 테이블의 행 수를 조회하여 pulse.outbox.table.rows 지표로 보고합니다.
+ */
+public class OutboxRetention implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRetention.class);
+
+    private final OutboxService outboxService;
+    private final OutboxMetrics outboxMetrics;
+    private final boolean archive;
+    private final Duration retention;
+    private final Duration interval;
+    private final Duration initialDelay;
+    private final int chunkSize;
+    private final int maxRowsPerSecond;
+    private final Duration shutdownTimeout;
+    private final ThreadFactory threadFactory;
+
+    private final LongAdder removedCount = new LongAdder();
+    private volatile long tableRows = -1L;
+    private volatile Instant lastRunAt;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    /**
+     * @param outboxService    Outbox 서비스
+     * @param outboxMetrics    Outbox 지표
+     * @param archive          보관 테이블로 옮길지 여부 (false이면 삭제)
+     * @param retention        완료된 행을 보존하는 기간
+     * @param interval         정리 주기
+     * @param initialDelay     기동 후 첫 정리까지 기다리는 시간
+     * @param chunkSize        한 번의 SPI 호출에서 정리할 최대 행 수
+     * @param maxRowsPerSecond 초당 정리할 최대 행 수 (0이면 제한하지 않음)
+     * @param shutdownTimeout  종료 시 진행 중인 정리가 끝나기를 기다리는 최대 시간
+     * @param threadFactory    정리 스레드를 생성할 ThreadFactory
+     */
+    public OutboxRetention(OutboxService outboxService,
+                           OutboxMetrics outboxMetrics,
+                           boolean archive,
+                           Duration retention,
+                           Duration interval,
+                           Duration initialDelay,
+                           int chunkSize,
+                           int maxRowsPerSecond,
+                           Duration shutdownTimeout,
+                           ThreadFactory threadFactory) {
+        this.outboxService = outboxService;
+        this.outboxMetrics = outboxMetrics;
+        this.archive = archive;
+        this.retention = retention;
+        this.interval = interval;
+        this.initialDelay = initialDelay;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRowsPerSecond = Math.max(0, maxRowsPerSecond);
+        this.shutdownTimeout = shutdownTimeout;
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::runOnce, initialDelay.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 진행 중인 정리를 중단합니다. (진행 중인 SPI 호출은 최대 shutdownTimeout까지 기다리며, 남은 행은 다음 기동 후에 정리합니다.)
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            try {
+                if (!scheduler.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.warn("Outbox retention did not finish within {}", shutdownTimeout);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 정리 방식 (purge, archive)
+    public String getMode() {
+        return archive ? "archive" : "purge";
+    }
+
+    // 정리한 행 수
+    public long getRemovedCount() {
+        return removedCount.sum();
+    }
+
+    /**
+     * 마지막으로 조회한 Outbox 테이블의 행 수
+     *
+     * @return 행 수, 조회하지 않았거나 알 수 없으면(SPI를 구현하지 않은 경우 포함) NaN
+     */
+    public double getTableRows() {
+        return tableRows >= 0 ? tableRows : Double.NaN;
+    }
+
+    // 마지막으로 정리를 마친 시각 (정리하지 않았으면 null)
+    public Instant getLastRunAt() {
+        return lastRunAt;
+    }
+
+    private void runOnce() {
+        try {
+            purgeExpired();
+        } catch (UnsupportedOperationException e) {
+            // SPI가 구현되지 않은 경우 더 이상 정리하지 않습니다.
+            log.error("Outbox retention stopped: {}", e.getMessage());
+            scheduler.shutdown();
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("Outbox retention failed, retrying in {}", interval, e);
+        }
+        refreshTableRows();
+    }
+
+    private void purgeExpired() throws InterruptedException {
+        // 1. 이번 정리의 기준 시각을 정합니다. (정리 중에 보존 기간이 지난 행은 다음 정리에서 처리)
+        Instant cutoff = Instant.now().minus(retention);
+        OutboxRetentionRequest request = new OutboxRetentionRequest(cutoff, cutoff, chunkSize);
+        long startNanos = System.nanoTime();
+        long removedInRun = 0L;
+
+        while (running) {
+            // 2. chunkSize건씩 정리합니다.
+            long chunkStartNanos = System.nanoTime();
+            long removed = removeChunk(request);
+            removedCount.add(removed);
+            removedInRun += removed;
+
+            // 3. chunkSize건을 채우지 못하면 남은 행이 없다고 보고 끝냅니다.
+            if (removed < chunkSize) {
+                break;
+            }
+
+            // 4. 초당 정리하는 행 수가 maxRowsPerSecond를 넘지 않도록 남은 시간만큼 쉽니다.
+            throttle(removed, System.nanoTime() - chunkStartNanos);
+        }
+
+        lastRunAt = Instant.now();
+        if (removedInRun > 0) {
+            log.info("Outbox retention {} {} rows created before {} in {} ms",
+                    archive ? "archived" : "purged", removedInRun, request.createdBefore(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    private long removeChunk(OutboxRetentionRequest request) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        long removed = 0L;
+        try {
+            removed = archive ? outboxService.archiveOutboxEvents(request) : outboxService.purgeOutboxEvents(request);
+            success = true;
+            return removed;
+        } finally {
+            outboxMetrics.recordRetention(getMode(), System.nanoTime() - startNanos, removed, success);
+        }
+    }
+
+    private void throttle(long removed, long elapsedNanos) throws InterruptedException {
+        if (maxRowsPerSecond == 0) {
+            return;
+        }
+        long budgetNanos = removed * TimeUnit.SECONDS.toNanos(1) / maxRowsPerSecond;
+        if (budgetNanos > elapsedNanos) {
+            TimeUnit.NANOSECONDS.sleep(budgetNanos - elapsedNanos);
+        }
+    }
+
+    private void refreshTableRows() {
+        if (!running) {
+            return;
+        }
+        try {
+            // SPI를 구현하지 않았으면 -1(알 수 없음)이 반환됩니다.
+            tableRows = outboxService.countOutboxEvents();
+        } catch (Exception e) {
+            log.warn("Failed to count outbox events: {}", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.pulse.event_library.retry;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * CompletableFuture를 반환하는 비동기 작업을 재시도하는 실행기입니다.
+ * 재시도 대기는 공유 스케줄러로 예약하므로 호출 스레드나 프로듀서 콜백 스레드를 재우지 않습니다.
+ *
+ * 키 순서 보장(keyOrdered)을 사용하면 같은 키의 작업은 이전 작업이 재시도를 포함해 최종 완료된 뒤에 시작하므로,
+ * 앞선 작업이 재시도를 기다리는 동안 같은 키의 이후 작업이 먼저 실행되지 않습니다. (다른 키의 작업은 기다리지 않습니다.)
+ */
+public class AsyncRetryExecutor implements DisposableBean {
+
+    private final RetryPolicy retryPolicy;
+    private final ScheduledExecutorService scheduler;
+    private final boolean keyOrdered;
+
+    // 키별로 마지막에 실행을 요청한 작업의 결과 (같은 키의 다음 작업은 이 작업이 완료된 뒤에 시작)
+    private final ConcurrentMap<String, CompletableFuture<?>> keyTails = new ConcurrentHashMap<>();
+
+    public AsyncRetryExecutor(RetryPolicy retryPolicy, ScheduledExecutorService scheduler) {
+        this(retryPolicy, scheduler, false);
+    }
+
+    /**
+     * @param retryPolicy 재시도 정책
+     * @param scheduler   재시도와 대기 중인 작업을 실행할 스케줄러
+     * @param keyOrdered  같은 키의 작업을 순서대로 하나씩 실행할지 여부
+     */
+    public AsyncRetryExecutor(RetryPolicy retryPolicy, ScheduledExecutorService scheduler, boolean keyOrdered) {
+        this.retryPolicy = retryPolicy;
+        this.scheduler = scheduler;
+        this.keyOrdered = keyOrdered;
+    }
+
+    /**
+     * 작업을 실행하고, 재시도 가능한 예외로 실패하면 백오프 후 다시 실행합니다.
+     *
+     * @param action 실행할 비동기 작업
+     * @param <T>    작업 결과 타입
+     * @return 최종 성공 또는 최종 실패 후에 완료되는 CompletableFuture
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> action) {
+        return execute(action, null);
+    }
+
+    /**
+     * 작업을 실행하고, 재시도 가능한 예외로 실패하면 백오프 후 다시 실행합니다.
+     *
+     * @param action   실행할 비동기 작업
+     * @param listener 재시도가 예약될 때 호출되는 리스너 (nullable)
+     * @param <T>      작업 결과 타입
+     * @return 최종 성공 또는 최종 실패 후에 완료되는 CompletableFuture
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> action, RetryListener listener) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(action, listener, result, 1);
+        return result;
+    }
+
+    /**
+     * 작업을 실행하고, 재시도 가능한 예외로 실패하면 백오프 후 다시 실행합니다.
+     * 키 순서 보장을 사용하면 같은 키로 먼저 요청한 작업이 최종 완료될 때까지 이 작업의 시작을 미룹니다.
+     *
+     * @param key      순서를 보장할 키 (null이면 기다리지 않고 실행)
+     * @param action   실행할 비동기 작업
+     * @param listener 재시도가 예약될 때 호출되는 리스너 (nullable)
+     * @param <T>      작업 결과 타입
+     * @return 최종 성공 또는 최종 실패 후에 완료되는 CompletableFuture
+     */
+    public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> action, RetryListener listener) {
+        if (key == null || !keyOrdered) {
+            return execute(action, listener);
+        }
+
+        // 1. 이 작업을 키의 마지막 작업으로 등록하고, 이전 작업이 없거나 끝났으면 바로 실행합니다.
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<?> previous = keyTails.put(key, result);
+        if (previous == null || previous.isDone()) {
+            attempt(action, listener, result, 1);
+        } else {
+            // 2. 이전 작업이 끝나면 스케줄러에서 실행합니다. (프로듀서 콜백 스레드에서 전송하지 않도록)
+            previous.whenComplete((value, ex) -> startLater(action, listener, result));
+        }
+
+        // 3. 완료되면 등록을 해제합니다. (이후에 같은 키의 작업이 등록되었으면 유지)
+        result.whenComplete((value, ex) -> keyTails.remove(key, result));
+        return result;
+    }
+
+    private <T> void startLater(Supplier<CompletableFuture<T>> action, RetryListener listener, CompletableFuture<T> result) {
+        try {
+            scheduler.execute(() -> attempt(action, listener, result, 1));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 스케줄러를 사용할 수 없으면 현재 스레드에서 실행합니다.
+            attempt(action, listener, result, 1);
+        }
+    }
+
+    private <T> void attempt(Supplier<CompletableFuture<T>> action, RetryListener listener, CompletableFuture<T> result, int attempt) {
+        // 1. 작업을 실행합니다. (동기적으로 발생한 예외도 실패한 Future로 취급합니다.)
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        // 2. 작업이 완료되면 성공/재시도/최종 실패를 결정합니다.
+        future.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+            if (!retryPolicy.shouldRetry(attempt, ex)) {
+                result.completeExceptionally(ex);
+                return;
+            }
+
+            long backoff = retryPolicy.backoffMillis(attempt);
+            if (listener != null) {
+                listener.onRetry(attempt, ex, backoff);
+            }
+            try {
+                scheduler.schedule(() -> attempt(action, listener, result, attempt + 1), backoff, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // 종료 중이라 재시도를 예약할 수 없는 경우 마지막 예외로 실패 처리합니다.
+                result.completeExceptionally(ex);
+            }
+        });
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * 스케줄러를 종료합니다. 이미 예약된 재시도는 실행되며, 이후의 재시도 예약은 최종 실패로 처리됩니다.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 재시도가 예약될 때 호출되는 리스너
+     */
+    @FunctionalInterface
+    public interface RetryListener {
+
+        void onRetry(int attempt, Throwable ex, long backoffMillis);
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.pulse.event_library.retry;
+
+import org.apache.kafka.common.errors.RetriableException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Kafka 전송 재시도 정책입니다.
+ * 지수 백오프에 지터(jitter)를 더해 여러 요청이 동시에 재시도하지 않도록 하며,
+ * Kafka의 RetriableException 계열 예외만 재시도하고 그 외 예외(직렬화 실패, 권한 오류, 메시지 크기 초과 등)는 즉시 실패로 처리합니다.
+ */
+public class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialIntervalMillis;
+    private final double multiplier;
+    private final long maxIntervalMillis;
+    private final double jitter;
+
+    /**
+     * @param maxAttempts     최초 시도를 포함한 최대 시도 횟수
+     * @param initialInterval 첫 번째 재시도 전 대기 시간
+     * @param multiplier      재시도마다 대기 시간에 곱하는 값
+     * @param maxInterval     최대 대기 시간
+     * @param jitter          대기 시간에 더하거나 빼는 임의 비율 (0.0 ~ 1.0)
+     */
+    public RetryPolicy(int maxAttempts, Duration initialInterval, double multiplier, Duration maxInterval, double jitter) {
+        this.maxAttempts = maxAttempts;
+        this.initialIntervalMillis = initialInterval.toMillis();
+        this.multiplier = multiplier;
+        this.maxIntervalMillis = maxInterval.toMillis();
+        this.jitter = jitter;
+    }
+
+    /**
+     * 재시도 여부를 판단합니다.
+     *
+     * @param attempt 지금까지의 시도 횟수
+     * @param ex      마지막 시도에서 발생한 예외
+     * @return 재시도 여부
+     */
+    public boolean shouldRetry(int attempt, Throwable ex) {
+        return attempt < maxAttempts && isRetriable(ex);
+    }
+
+    /**
+     * 다음 재시도 전 대기 시간을 계산합니다.
+     *
+     * @param attempt 지금까지의 시도 횟수 (1부터 시작)
+     * @return 대기 시간(ms)
+     */
+    public long backoffMillis(int attempt) {
+        double interval = Math.min(initialIntervalMillis * Math.pow(multiplier, attempt - 1), maxIntervalMillis);
+        double delta = interval * jitter;
+        double jittered = interval - delta + ThreadLocalRandom.current().nextDouble() * 2 * delta;
+        return Math.max(0L, Math.round(jittered));
+    }
+
+    /**
+     * 예외의 원인을 따라가며 Kafka의 RetriableException이 있는지 확인합니다.
+     * (KafkaTemplate은 전송 실패를 KafkaProducerException, CompletableFuture는 CompletionException으로 감싸서 전달합니다.)
+     *
+     * @param ex 발생한 예외
+     * @return 재시도 가능한 예외인지 여부
+     */
+    public boolean isRetriable(Throwable ex) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof RetriableException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 모든 시도가 attemptTimeout만큼 걸린 뒤 실패하는 경우 최종 결과까지 걸리는 최대 시간을 계산합니다. (대기 시간은 지터를 더한 최대값)
+     *
+     * @param attemptTimeout 한 번의 시도에 걸리는 최대 시간 (ex. delivery.timeout.ms)
+     * @return 최종 결과까지 걸리는 최대 시간
+     */
+    public Duration maxTotalDuration(Duration attemptTimeout) {
+        long totalMillis = attemptTimeout.toMillis() * maxAttempts;
+        for (int attempt = 1; attempt < maxAttempts; attempt++) {
+            double interval = Math.min(initialIntervalMillis * Math.pow(multiplier, attempt - 1), maxIntervalMillis);
+            totalMillis += Math.round(interval * (1 + jitter));
+        }
+        return Duration.ofMillis(totalMillis);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.pulse.event_library.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * OutboxEvent 구현 클래스를 전송할 Kafka 토픽을 지정합니다.
+ * 값에는 프로퍼티 플레이스홀더를 사용할 수 있습니다. (ex. @OutboxTopic("${app.topics.order}"))
+ *
+ * pulse.outbox.routing.topics에 이벤트 타입이 등록되어 있으면 설정 값이 우선합니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface OutboxTopic {
+
+    // Kafka 토픽 이름
+    String value();
+
+}
@@ -0,0 +1,141 @@
+package com.pulse.event_library.routing;
+
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.service.OutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Outbox 이벤트를 전송할 Kafka 토픽을 결정합니다.
+ * 토픽 매핑은 실행 중에 바뀌지 않으므로, 이벤트마다 OutboxService.getKafkaTopic을 호출하지 않고 한 번 결정한 결과를 재사용합니다.
+ *
+ * 조회 순서는 다음과 같습니다.
+ * 1. 설정(pulse.outbox.routing.topics): 기동 시 만든 불변 맵에서 이벤트 타입으로 찾습니다.
+ * 2. @OutboxTopic: 이벤트 클래스별로 처음 한 번만 애너테이션을 읽고, 이후에는 잠금 없이 재사용합니다. (ClassValue)
+ * 3. OutboxService.getKafkaTopic: 위에서 찾지 못한 경우에만 호출하며, 결과를 이벤트 타입별로 캐시합니다. (cache-fallback=true)
+ */
+public class OutboxTopicRouter implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxTopicRouter.class);
+
+    private final Map<String, String> topicsByEventType;
+    private final OutboxService outboxService;
+    private final boolean cacheFallback;
+    private final KafkaTemplate<String, byte[]> describeTemplate;
+    private final ConcurrentMap<String, String> fallbackTopics = new ConcurrentHashMap<>();
+    private volatile Map<String, Integer> partitionCounts = Map.of();
+
+    // 이벤트 클래스별 @OutboxTopic 값 (애너테이션이 없으면 null)
+    private final ClassValue<String> annotatedTopics;
+
+    /**
+     * @param topicsByEventType 이벤트 타입별 토픽
+     * @param outboxService     Outbox 서비스 (설정과 애너테이션으로 찾지 못한 경우에 사용)
+     * @param cacheFallback     OutboxService.getKafkaTopic의 결과를 이벤트 타입별로 캐시할지 여부
+     * @param propertyResolver  @OutboxTopic 값의 플레이스홀더를 해석할 PropertyResolver
+     * @param describeTemplate  기동 시 설정된 토픽의 파티션 수를 조회할 KafkaTemplate (조회하지 않으면 null)
+     */
+    public OutboxTopicRouter(Map<String, String> topicsByEventType,
+                             OutboxService outboxService,
+                             boolean cacheFallback,
+                             PropertyResolver propertyResolver,
+                             KafkaTemplate<String, byte[]> describeTemplate) {
+        this.topicsByEventType = Map.copyOf(topicsByEventType);
+        this.outboxService = outboxService;
+        this.cacheFallback = cacheFallback;
+        this.describeTemplate = describeTemplate;
+        this.annotatedTopics = new ClassValue<>() {
+            @Override
+            protected String computeValue(Class<?> type) {
+                OutboxTopic topic = type.getAnnotation(OutboxTopic.class);
+                return topic != null ? propertyResolver.resolveRequiredPlaceholders(topic.value()) : null;
+            }
+        };
+    }
+
+    /**
+     * 이벤트를 전송할 토픽을 반환합니다.
+     *
+     * @param event Outbox 이벤트
+     * @return Kafka 토픽 이름
+     */
+    public String resolve(OutboxEvent event) {
+        // 1. 설정에 등록된 이벤트 타입이면 설정의 토픽을 사용합니다.
+        String eventType = event.getEventType();
+        if (eventType != null) {
+            String topic = topicsByEventType.get(eventType);
+            if (topic != null) {
+                return topic;
+            }
+        }
+
+        // 2. 이벤트 클래스에 @OutboxTopic이 있으면 애너테이션의 토픽을 사용합니다.
+        String annotated = annotatedTopics.get(event.getClass());
+        if (annotated != null) {
+            return annotated;
+        }
+
+        // 3. OutboxService.getKafkaTopic으로 찾고, 이벤트 타입별로 캐시합니다.
+        if (!cacheFallback || eventType == null) {
+            return outboxService.getKafkaTopic(event);
+        }
+        String cached = fallbackTopics.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        String topic = outboxService.getKafkaTopic(event);
+        if (topic != null) {
+            fallbackTopics.putIfAbsent(eventType, topic);
+        }
+        return topic;
+    }
+
+    // 설정에 등록된 이벤트 타입별 토픽
+    public Map<String, String> getConfiguredTopics() {
+        return topicsByEventType;
+    }
+
+    // OutboxService.getKafkaTopic으로 찾아 캐시한 이벤트 타입별 토픽
+    public Map<String, String> getCachedTopics() {
+        return Collections.unmodifiableMap(fallbackTopics);
+    }
+
+    // 기동 시 조회한 토픽별 파티션 수 (describe-topics=true인 경우)
+    public Map<String, Integer> getPartitionCounts() {
+        return partitionCounts;
+    }
+
+    /**
+     * 설정에 등록된 토픽의 파티션 수를 한 번 조회합니다. (describe-topics=true)
+     * 토픽이 없거나 브로커에 연결할 수 없으면 경고만 남기고 기동을 계속합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (describeTemplate == null) {
+            return;
+        }
+        Set<String> topics = new LinkedHashSet<>(topicsByEventType.values());
+        Map<String, Integer> counts = new HashMap<>();
+        for (String topic : topics) {
+            try {
+                counts.put(topic, describeTemplate.partitionsFor(topic).size());
+            } catch (Exception e) {
+                log.warn("Failed to describe outbox topic [{}]", topic, e);
+            }
+        }
+        partitionCounts = Map.copyOf(counts);
+        log.info("Outbox topic routes: {}, partitions: {}", topicsByEventType, partitionCounts);
+    }
+
+}
@@ -1,44 +1,61 @@
 package com.pulse.event_library.service;
 
-import io.opentelemetry.api.GlobalOpenTelemetry;
+import com.pulse.event_library.codec.EncodedPayload;
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.event.OutboxHeaders;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.ProducerProfileRegistry;
+import com.pulse.event_library.retry.AsyncRetryExecutor;
+import com.pulse.event_library.tracing.OutboxTracing;
 import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
-import io.opentelemetry.context.propagation.TextMapSetter;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.SendResult;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 /**
  * KafkaProducerService는 Kafka로 메시지를 전송하는 서비스입니다.
  * KafkaProducerService에서 트레이스 컨텍스트를 메시지에 포함시켜 전송해야 합니다.
- * 이를 위해 OpenTelemetry의 Tracer를 사용합니다.
+ * 이를 위해 OutboxTracing(OpenTelemetry의 Tracer / Propagator)을 사용합니다.
  */
 @Service
 public class KafkaProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final Tracer tracer = GlobalOpenTelemetry.getTracer("kafka-producer");
+    private static final Logger log = LoggerFactory.getLogger(KafkaProducerService.class);
 
-    public KafkaProducerService(KafkaTemplate<String, String> kafkaTemplate) {
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ProducerProfileRegistry producerProfileRegistry;
+    private final AsyncRetryExecutor kafkaSendRetryExecutor;
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxTracing outboxTracing;
+
+    // 이벤트 타입, content-type 등 반복되는 헤더 값의 인코딩 결과 (레코드마다 인코딩하지 않도록 재사용)
+    private final ConcurrentMap<String, byte[]> headerValues = new ConcurrentHashMap<>();
+
+    public KafkaProducerService(KafkaTemplate<String, byte[]> kafkaTemplate,
+                                ProducerProfileRegistry producerProfileRegistry,
+                                AsyncRetryExecutor kafkaSendRetryExecutor,
+                                OutboxMetrics outboxMetrics,
+                                OutboxTracing outboxTracing) {
         this.kafkaTemplate = kafkaTemplate;
+        this.producerProfileRegistry = producerProfileRegistry;
+        this.kafkaSendRetryExecutor = kafkaSendRetryExecutor;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxTracing = outboxTracing;
     }
 
-    // Kafka 메시지에 트레이스 컨텍스트를 주입하기 위한 TextMapSetter
-    private static final TextMapSetter<ProducerRecord<String, String>> setter =
-            (carrier, key, value) -> carrier.headers().add(key, value.getBytes(StandardCharsets.UTF_8));
-
     /**
      * Kafka로 메시지를 전송합니다.
      *
@@ -47,26 +64,8 @@ public class KafkaProducerService {
      * @param context     전송에 사용될 컨텍스트
      * @return 전송 결과를 나타내는 CompletableFuture
      */
-    public CompletableFuture<SendResult<String, String>> send(String topic, String payloadJson, Context context) {
-        // 1. Span을 생성합니다. ("kafka-send"라는 이름을 가지며, 파라미터로 주어진 context를 부모로 설정합니다.)
-        Span span = tracer.spanBuilder("[kafka] : message-produce").setParent(context).startSpan();
-
-        // 2. Span을 현재 컨텍스트에 설정합니다.
-        try (Scope scope = span.makeCurrent()) {
-
-            // 2-1. Kafka 메시지 레코드를 생성합니다.
-            ProducerRecord<String, String> record = new ProducerRecord<>(topic, payloadJson);
-
-            // 2-2. Traceparent 헤더를 Kafka 레코드에 주입하여 트레이스를 연결합니다. (리스너에서 가져다 사용)
-            GlobalOpenTelemetry.getPropagators().getTextMapPropagator().inject(context, record, setter);
-
-            // 2-3. Kafka 메시지를 전송합니다.
-            return kafkaTemplate.send(record);
-
-        } finally {
-            // 3. Span을 종료합니다.
-            span.end();
-        }
+    public CompletableFuture<SendResult<String, byte[]>> send(String topic, String payloadJson, Context context) {
+        return send(kafkaTemplate, new ProducerRecord<>(topic, payloadJson.getBytes(StandardCharsets.UTF_8)), context);
     }
 
     /**
@@ -78,59 +77,160 @@ public class KafkaProducerService {
      * @param context     전송에 사용될 컨텍스트
      * @return 전송 결과를 나타내는 CompletableFuture
      */
-    public CompletableFuture<SendResult<String, String>> send(String topic, String key, String payloadJson, Context context) {
-        Span span = tracer.spanBuilder("[kafka] : message-produce").setParent(context).startSpan();
-
-        try (Scope scope = span.makeCurrent()) {
-            ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, payloadJson);
-            GlobalOpenTelemetry.getPropagators().getTextMapPropagator().inject(context, record, setter);
-            return kafkaTemplate.send(record);
-        } finally {
+    public CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, String payloadJson, Context context) {
+        return send(kafkaTemplate, new ProducerRecord<>(topic, key, payloadJson.getBytes(StandardCharsets.UTF_8)), context);
+    }
+
+    /**
+     * Outbox 이벤트의 타입에 매핑된 프로듀서 프로필로 Kafka 메시지를 전송합니다.
+     * 이벤트에 파티션 키가 있으면 메시지 키로 사용하여 같은 키의 이벤트가 같은 파티션에 순서대로 쌓이도록 합니다.
+     * 컨슈머가 값을 해석하지 않고도 처리할 수 있도록 outbox id, 이벤트 타입, content-type(, content-encoding) 헤더를 추가합니다.
+     *
+     * @param event   전송할 Outbox 이벤트
+     * @param topic   전송할 Kafka 토픽
+     * @param payload 인코딩된 메시지 값
+     * @param context 전송에 사용될 컨텍스트
+     * @return 전송 결과를 나타내는 CompletableFuture
+     */
+    public CompletableFuture<SendResult<String, byte[]>> send(OutboxEvent event, String topic, EncodedPayload payload, Context context) {
+        KafkaTemplate<String, byte[]> template = producerProfileRegistry.getTemplateForEventType(event.getEventType());
+        ProducerRecord<String, byte[]> record = createRecord(event, topic, payload);
+
+        // 브로커 응답까지 걸린 시간을 전송 시도별로 기록합니다.
+        long startNanos = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> future = send(template, record, context);
+        future.whenComplete((result, ex) ->
+                outboxMetrics.recordSend(event.getEventType(), topic, System.nanoTime() - startNanos, ex == null));
+        return future;
+    }
+
+    /**
+     * Outbox 이벤트의 Kafka 레코드를 생성합니다. (파티션 키를 메시지 키로 사용하고 outbox 헤더를 추가합니다.)
+     *
+     * @param event   전송할 Outbox 이벤트
+     * @param topic   전송할 Kafka 토픽
+     * @param payload 인코딩된 메시지 값
+     * @return Kafka 레코드
+     */
+    public ProducerRecord<String, byte[]> createRecord(OutboxEvent event, String topic, EncodedPayload payload) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, event.getPartitionKey(), payload.data());
+        addOutboxHeaders(record.headers(), event, payload);
+        return record;
+    }
+
+    private void addOutboxHeaders(Headers headers, OutboxEvent event, EncodedPayload payload) {
+        headers.add(OutboxHeaders.OUTBOX_ID, String.valueOf(event.getId()).getBytes(StandardCharsets.UTF_8));
+        if (event.getEventType() != null) {
+            headers.add(OutboxHeaders.EVENT_TYPE, headerValue(event.getEventType()));
+        }
+        headers.add(OutboxHeaders.CONTENT_TYPE, headerValue(payload.contentType()));
+        if (payload.contentEncoding() != null) {
+            headers.add(OutboxHeaders.CONTENT_ENCODING, headerValue(payload.contentEncoding()));
+        }
+    }
+
+    private byte[] headerValue(String value) {
+        byte[] bytes = headerValues.get(value);
+        return bytes != null ? bytes : headerValues.computeIfAbsent(value, v -> v.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(KafkaTemplate<String, byte[]> template,
+                                                               ProducerRecord<String, byte[]> record,
+                                                               Context context) {
+        // 1. 전송 Span을 생성합니다. (FULL 모드에서만 생성되며, 파라미터로 주어진 context를 부모로 설정합니다.)
+        Span span = outboxTracing.startProduceSpan(context);
+
+        try (Scope scope = outboxTracing.makeCurrent(span)) {
+            // 2. Traceparent 헤더를 Kafka 레코드에 주입하여 트레이스를 연결합니다. (리스너에서 가져다 사용)
+            outboxTracing.inject(context, span, record.headers());
+
+            // 3. Kafka 메시지를 전송하고, 전송 Span은 브로커의 응답을 받을 때 종료합니다.
+            CompletableFuture<SendResult<String, byte[]>> future = template.send(record);
+            if (span.getSpanContext().isValid()) {
+                future.whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        span.recordException(ex);
+                    }
+                    span.end();
+                });
+            }
+            return future;
+        } catch (RuntimeException e) {
+            span.recordException(e);
             span.end();
+            throw e;
         }
     }
 
 
     /**
-     * 재시도 로직을 포함하여 Kafka로 메시지를 전송합니다. 성공 시 메시지 전송 성공 로그를 출력합니다.
-     * 메시지 전송이 실패할 경우 최대 3회 재시도하며, 재시도 간격은 5초입니다.
-     * whenComplete는 CompletableFuture의 메서드로, 비동기 작업이 완료된 후에 호출되는 콜백을 설정하는 것입니다.
-     * whenComplete는 작업이 성공하든 실패하든 상관없이 호출됩니다.
+     * 재시도 로직을 포함하여 Kafka로 메시지를 전송합니다.
+     * 전송 결과(CompletableFuture)를 기준으로 재시도하므로 프로듀서 콜백에서 발생한 비동기 실패도 재시도되며,
+     * 재시도 대기 중에 호출 스레드를 재우지 않습니다. (재시도 정책은 pulse.outbox.producer.retry 설정을 따릅니다.)
      *
      * @param topic       전송할 Kafka 토픽
      * @param payloadJson 전송할 메시지
+     * @return 최종 성공 또는 최종 실패 후에 완료되는 CompletableFuture
      */
-    @Retryable(retryFor = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 5000))
-    public void sendWithRetry(String topic, String payloadJson, Context context) {
-        send(topic, payloadJson, context).whenComplete((result, ex) -> {
-            // 실패시 예외를 던져서 처리합니다.
-            if (ex != null) {
-                throw new RuntimeException("Failed to send message to Kafka", ex);
-            }
-            // 성공시 전송된 메시지의 오프셋을 로그에 기록합니다.
-            RecordMetadata metadata = result.getRecordMetadata();
-            System.out.println("Sent message=[" + payloadJson + "] with offset=[" + metadata.offset() + "]");
-        });
+    public CompletableFuture<SendResult<String, byte[]>> sendWithRetry(String topic, String payloadJson, Context context) {
+        return retry(() -> send(topic, payloadJson, context), null, topic);
     }
 
     /**
-     * 재시도 로직을 포함하여 Kafka로 메시지를 전송합니다. 성공 시 메시지 전송 성공 로그를 출력합니다.
-     * 메시지 전송이 실패할 경우 최대 3회 재시도하며, 재시도 간격은 5초입니다.
+     * 재시도 로직을 포함하여 Kafka로 메시지를 전송합니다.
      *
      * @param topic       전송할 Kafka 토픽
      * @param key         메시지 키
      * @param payloadJson 전송할 메시지
+     * @return 최종 성공 또는 최종 실패 후에 완료되는 CompletableFuture
      */
-    @Retryable(retryFor = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 5000))
-    public void sendWithRetry(String topic, String key, String payloadJson, Context context) {
-        send(topic, payloadJson, context).whenComplete((result, ex) -> {
-            // 실패시 예외를 던져서 처리합니다.
-            if (ex != null) {
-                throw new RuntimeException("Failed to send message to Kafka", ex);
+    public CompletableFuture<SendResult<String, byte[]>> sendWithRetry(String topic, String key, String payloadJson, Context context) {
+        return retry(key, () -> send(topic, key, payloadJson, context), null, topic);
+    }
+
+    /**
+     * 재시도 로직을 포함하여 Outbox 이벤트의 타입에 매핑된 프로듀서 프로필로 Kafka 메시지를 전송합니다.
+     * 전송에 성공하면 저장된 위치(토픽-파티션@오프셋)를 DEBUG 레벨로 기록합니다.
+     * 파티션 키가 있으면 같은 키로 먼저 요청한 전송이 재시도를 포함해 끝난 뒤에 전송합니다. (pulse.outbox.producer.retry.key-ordered)
+     *
+     * @param event   전송할 Outbox 이벤트
+     * @param topic   전송할 Kafka 토픽
+     * @param payload 인코딩된 메시지 값
+     * @return 최종 성공 또는 최종 실패 후에 완료되는 CompletableFuture
+     */
+    public CompletableFuture<SendResult<String, byte[]>> sendWithRetry(OutboxEvent event, String topic, EncodedPayload payload, Context context) {
+        return retry(event.getPartitionKey(), () -> send(event, topic, payload, context), event.getEventType(), topic).whenComplete((result, ex) -> {
+            if (ex == null && log.isDebugEnabled()) {
+                RecordMetadata metadata = result.getRecordMetadata();
+                log.debug("Sent outbox event [{}] to {}-{}@{}", event.getId(), metadata.topic(), metadata.partition(), metadata.offset());
             }
-            // 성공시 전송된 메시지의 오프셋을 로그에 기록합니다.
-            RecordMetadata metadata = result.getRecordMetadata();
-            System.out.println("Sent message=[" + payloadJson + "] with offset=[" + metadata.offset() + "]");
+        });
+    }
+
+    /**
+     * 재시도 정책 기준으로 재시도 가능한 전송 실패(브로커 연결 실패, 타임아웃 등)인지 확인합니다.
+     *
+     * @param ex 전송 실패 예외
+     * @return 재시도 가능한 예외인지 여부
+     */
+    public boolean isRetriable(Throwable ex) {
+        return kafkaSendRetryExecutor.getRetryPolicy().isRetriable(ex);
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> retry(Supplier<CompletableFuture<SendResult<String, byte[]>>> action,
+                                                                String eventType,
+                                                                String topic) {
+        return retry(null, action, eventType, topic);
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> retry(String key,
+                                                                Supplier<CompletableFuture<SendResult<String, byte[]>>> action,
+                                                                String eventType,
+                                                                String topic) {
+        return kafkaSendRetryExecutor.execute(key, action, (attempt, ex, backoffMillis) -> {
+            outboxMetrics.recordRetry(eventType, topic);
+            log.warn("Failed to send message to Kafka topic [{}] (attempt {}), retrying in {}ms: {}",
+                    topic, attempt, backoffMillis, ex.getMessage());
         });
     }
 
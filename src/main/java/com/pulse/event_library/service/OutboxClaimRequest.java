@@ -0,0 +1,44 @@
+package com.pulse.event_library.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * OutboxService.claimOutboxEvents에 전달되는 선점(claim) 조건입니다.
+ * 여러 인스턴스가 동시에 같은 행을 재발행하지 않도록 아래와 같은 방식의 구현을 기대합니다.
+ * 선점할 때마다 재발행 시도 횟수(attempts)를 늘리고, maxAttempts번 시도한 행은 선점하지 않습니다.
+ * (재시도할 수 없는 이벤트가 폴링마다 재발행되지 않도록 하며, 이런 행은 OutboxService.parkOutboxEvents로 종료 상태로 변경됩니다.)
+ * <pre>
+ * SELECT * FROM outbox
+ *  WHERE status IN ('INIT', 'FAILED')
+ *    AND created_at &lt; :createdBefore
+ *    AND attempts &lt; :maxAttempts
+ *    AND (claimed_until IS NULL OR claimed_until &lt; now())
+ *    AND MOD(id, :shardCount) = :shard
+ *  ORDER BY id
+ *  LIMIT :limit
+ *  FOR UPDATE SKIP LOCKED;
+ *
+ * UPDATE outbox SET claimed_by = :claimerId, claimed_until = now() + :leaseTime, attempts = attempts + 1 WHERE id IN (...);
+ * </pre>
+ * 재발행한 행은 같은 키의 이후 이벤트보다 늦게 전송될 수 있습니다. 같은 키의 행을 한 샤드에서 id 순서대로 재발행하려면
+ * MOD(id, :shardCount) 대신 파티션 키의 해시로 샤드를 나눕니다. (ex. MOD(ABS(HASHTEXT(partition_key)), :shardCount))
+ *
+ * @param claimerId     선점하는 인스턴스의 식별자
+ * @param shard         선점할 샤드 번호 (0 ~ shardCount - 1)
+ * @param shardCount    전체 샤드 수
+ * @param limit         한 번에 선점할 최대 행 수
+ * @param createdBefore 이 시각 이전에 생성된 행만 선점 (AFTER_COMMIT 발행 중인 행과의 중복 방지)
+ * @param leaseTime     선점 유지 시간 (인스턴스 장애 시 이후 다른 인스턴스가 다시 선점)
+ * @param maxAttempts   행마다 재발행을 시도할 최대 횟수
+ */
+public record OutboxClaimRequest(
+        String claimerId,
+        int shard,
+        int shardCount,
+        int limit,
+        Instant createdBefore,
+        Duration leaseTime,
+        int maxAttempts
+) {
+}
@@ -1,7 +1,14 @@
 package com.pulse.event_library.service;
 
+import java.util.Collection;
+
 public interface OutboxKafkaService {
 
     void updateOutboxStatus();
 
+    // 여러 Outbox 이벤트의 상태를 한 번에 업데이트 (bulk update로 재정의 권장)
+    default void updateOutboxStatus(Collection<Long> ids) {
+        ids.forEach(id -> updateOutboxStatus());
+    }
+
 }
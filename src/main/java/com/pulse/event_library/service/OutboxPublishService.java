@@ -0,0 +1,229 @@
+package com.pulse.event_library.service;
+
+import com.pulse.event_library.codec.EncodedPayload;
+import com.pulse.event_library.codec.OutboxPayloadCodecs;
+import com.pulse.event_library.config.OutboxPayloadProperties;
+import com.pulse.event_library.config.OutboxProducerProperties;
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.journal.JournaledOutboxEvent;
+import com.pulse.event_library.journal.OutboxSpillJournal;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.producer.OutboxCircuitBreaker;
+import com.pulse.event_library.producer.OutboxTransactionalPublisher;
+import com.pulse.event_library.routing.OutboxTopicRouter;
+import com.pulse.event_library.status.OutboxStatusBuffer;
+import com.pulse.event_library.tracing.OutboxTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 커밋된 Outbox 이벤트를 Kafka로 발행하고 Outbox 테이블의 상태를 변경하는 서비스입니다.
+ * AFTER_COMMIT 리스너(동기 모드)와 OutboxDispatcher의 워커(비동기 모드)가 함께 사용합니다.
+ */
+@Service
+public class OutboxPublishService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPublishService.class);
+
+    private final OutboxService outboxService;
+    private final OutboxTopicRouter topicRouter;
+    private final KafkaProducerService kafkaProducerService;
+    private final OutboxPayloadCodecs payloadCodecs;
+    private final OutboxMetrics outboxMetrics;
+    private final boolean bodyMode;
+    private final OutboxTracing outboxTracing;
+    private final OutboxCircuitBreaker circuitBreaker;
+    private final OutboxSpillJournal spillJournal;
+    private final OutboxTransactionalPublisher transactionalPublisher;
+    private final OutboxStatusBuffer statusBuffer;
+
+    // 전송 완료 후 상태 변경(DB 호출)을 프로듀서 콜백 스레드가 아닌 별도의 스레드에서 수행하기 위한 실행기
+    // (스레드 수로 동시에 실행되는 DB 호출 수를 제한하여, 응답이 몰려도 커넥션 풀이 고갈되지 않도록 합니다.)
+    private final ExecutorService completionExecutor;
+
+    public OutboxPublishService(OutboxService outboxService,
+                                OutboxTopicRouter topicRouter,
+                                KafkaProducerService kafkaProducerService,
+                                OutboxPayloadCodecs payloadCodecs,
+                                OutboxPayloadProperties payloadProperties,
+                                OutboxProducerProperties producerProperties,
+                                OutboxMetrics outboxMetrics,
+                                OutboxTracing outboxTracing,
+                                ObjectProvider<OutboxCircuitBreaker> circuitBreaker,
+                                ObjectProvider<OutboxSpillJournal> spillJournal,
+                                ObjectProvider<OutboxTransactionalPublisher> transactionalPublisher,
+                                ObjectProvider<OutboxStatusBuffer> statusBuffer) {
+        this.outboxService = outboxService;
+        this.topicRouter = topicRouter;
+        this.kafkaProducerService = kafkaProducerService;
+        this.payloadCodecs = payloadCodecs;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxTracing = outboxTracing;
+        this.bodyMode = payloadProperties.getMode() == OutboxPayloadProperties.Mode.BODY;
+        this.completionExecutor = Executors.newFixedThreadPool(Math.max(1, producerProperties.getCompletionThreads()),
+                Thread.ofPlatform().name("outbox-completion-", 0).daemon(true).factory());
+        this.circuitBreaker = circuitBreaker.getIfAvailable();
+        this.spillJournal = spillJournal.getIfAvailable();
+        this.transactionalPublisher = transactionalPublisher.getIfAvailable();
+        this.statusBuffer = statusBuffer.getIfAvailable();
+    }
+
+    /**
+     * Outbox 이벤트를 Kafka로 발행하고, 최종 전송 결과에 따라 Outbox 이벤트를 처리 완료 또는 실패 상태로 변경합니다.
+     * 브로커의 응답을 기다리지 않고 반환하며, 반환된 Future는 상태 변경까지 끝난 뒤에 완료됩니다. (예외로 완료되지 않습니다.)
+     * 상태 변경 쓰기 지연을 사용하면 상태 변경을 버퍼에 넣은 뒤에 완료됩니다.
+     *
+     * @param event 전송할 Outbox 이벤트
+     * @return 상태 변경까지 끝난 뒤에 완료되는 CompletableFuture
+     */
+    public CompletableFuture<Void> publish(OutboxEvent event) {
+        // 1. 현재 컨텍스트를 가져와 Span을 생성 (전송 결과를 받을 때 종료, 샘플링되지 않으면 생성하지 않음)
+        Span span = outboxTracing.startPublishSpan("[spring-event] after-commit (kafka-produce && outbox table process)");
+        String topic = null;
+
+        // 2. Span을 현재 컨텍스트에 설정하고, 재시도마다 사용할 트레이스 헤더를 미리 인코딩합니다. (LIGHT 모드)
+        try (Scope scope = outboxTracing.makeCurrent(span)) {
+            Context context = outboxTracing.withEncodedHeaders(Context.current());
+
+            // 2-1. 메시지로 보낼 payload와 전송할 Kafka의 토픽 정보를 가져옵니다. (토픽은 라우팅 테이블에서 조회)
+            EncodedPayload message = encode(event);
+            topic = topicRouter.resolve(event);
+
+            // 2-2. 회로가 열려 있거나 저널에 재전송을 기다리는 이벤트가 있으면 Kafka로 보내지 않고 로컬 저널에 기록합니다. (순서 유지)
+            if (isSpilling()) {
+                spill(event, topic, message, span);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            // 2-3. 트랜잭션 발행 모드이면 다른 이벤트와 하나의 Kafka 트랜잭션으로 묶어 전송합니다. (처리 완료 상태는 커밋 후 한 번에 변경)
+            String resolvedTopic = topic;
+            if (transactionalPublisher != null) {
+                return transactionalPublisher.publish(event, topic, message, context)
+                        .handleAsync((result, ex) -> {
+                            recordCircuit(ex);
+                            completeTransactional(event, resolvedTopic, span, ex);
+                            return null;
+                        }, completionExecutor);
+            }
+
+            // 2-4. 추출한 토픽에 이벤트 타입에 매핑된 프로듀서 프로필로 Kafka 메시지를 전송합니다.
+            // 2-5. 최종 전송 결과에 따라 Outbox 이벤트의 상태를 변경합니다.
+            return kafkaProducerService.sendWithRetry(event, topic, message, context)
+                    .handleAsync((result, ex) -> {
+                        recordCircuit(ex);
+                        complete(event, resolvedTopic, span, ex);
+                        return null;
+                    }, completionExecutor);
+        } catch (Exception e) {
+            // exception: 전송 전에 예외가 발생한 경우
+            complete(event, topic, span, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 브로커 장애로 이벤트를 로컬 저널에 기록하고 있는지 확인합니다.
+     * 회로가 닫혔더라도 저널의 재전송이 끝날 때까지는 새 이벤트도 저널에 기록하여 전송 순서를 유지합니다.
+     *
+     * @return 로컬 저널에 기록하고 있으면 true
+     */
+    public boolean isSpilling() {
+        return spillJournal != null && (spillJournal.hasPending() || !circuitBreaker.isClosed());
+    }
+
+    /**
+     * 이벤트를 로컬 저널에 기록합니다. (재전송 후 처리 완료 상태로 변경됩니다.)
+     * 저널에 기록할 수 없으면 실패 상태로 변경합니다.
+     */
+    private void spill(OutboxEvent event, String topic, EncodedPayload message, Span span) {
+        try {
+            spillJournal.append(JournaledOutboxEvent.of(event, topic, message));
+            outboxMetrics.recordSpilled(event.getEventType(), topic);
+            span.end();
+        } catch (Exception e) {
+            log.error("Failed to spill outbox event [{}] to the journal", event.getId(), e);
+            complete(event, topic, span, e);
+        }
+    }
+
+    /**
+     * 전송 결과를 회로 차단기에 알립니다. (재시도 가능한 실패만 장애로 판단합니다.)
+     */
+    private void recordCircuit(Throwable ex) {
+        if (circuitBreaker == null) {
+            return;
+        }
+        if (ex == null) {
+            circuitBreaker.onSuccess();
+        } else if (kafkaProducerService.isRetriable(ex)) {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    /**
+     * BODY 모드이고 이벤트에 본문이 있으면 본문을 인코딩하고, 그렇지 않으면 outbox id만 담습니다.
+     */
+    private EncodedPayload encode(OutboxEvent event) {
+        Object payload = bodyMode ? event.getPayload() : null;
+        return payload != null ? payloadCodecs.encode(payload) : EncodedPayload.ofId(event.getId());
+    }
+
+    private void complete(OutboxEvent event, String topic, Span span, Throwable ex) {
+        outboxMetrics.recordPublished(event.getEventType(), topic, ex == null);
+        try {
+            if (ex == null) {
+                // 메시지 전송 후 Outbox 이벤트에 메시지를 처리된 상태로 변경합니다. (쓰기 지연 사용 시 버퍼에서 모아서 변경)
+                if (statusBuffer != null) {
+                    statusBuffer.markProcessed(event);
+                } else {
+                    outboxService.markOutboxEventProcessed(event);
+                }
+            } else {
+                // 예외 발생 시 Outbox 이벤트를 실패 상태로 변경하고 Span에 예외를 기록합니다.
+                span.recordException(ex);
+                if (statusBuffer != null) {
+                    statusBuffer.markFailed(event);
+                } else {
+                    outboxService.markOutboxEventFailed(event);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to update outbox event [{}] status", event.getId(), e);
+        } finally {
+            // Span을 종료합니다.
+            span.end();
+        }
+    }
+
+    /**
+     * 트랜잭션 발행 결과를 기록합니다.
+     * 커밋된 이벤트는 발행기가 이미 처리 완료 상태로 변경했으므로, 실패한 경우에만 상태를 변경합니다.
+     */
+    private void completeTransactional(OutboxEvent event, String topic, Span span, Throwable ex) {
+        if (ex != null) {
+            complete(event, topic, span, ex);
+            return;
+        }
+        outboxMetrics.recordPublished(event.getEventType(), topic, true);
+        span.end();
+    }
+
+    /**
+     * 진행 중인 상태 변경이 끝날 때까지 기다린 뒤 실행기를 종료합니다.
+     */
+    @Override
+    public void destroy() {
+        completionExecutor.close();
+    }
+
+}
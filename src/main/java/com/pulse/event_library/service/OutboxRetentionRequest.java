@@ -0,0 +1,37 @@
+package com.pulse.event_library.service;
+
+import java.time.Instant;
+
+/**
+ * OutboxService.purgeOutboxEvents / archiveOutboxEvents에 전달되는 보존 기간 정리 조건입니다.
+ * 한 번의 호출이 긴 트랜잭션이나 대량의 잠금을 만들지 않도록 아래와 같이 limit건씩 처리하는 구현을 기대합니다.
+ * 정리 대상은 처리 완료(PROCESSED / SUCCESS) 상태가 된 지 보존 기간이 지난 행이며, 미처리/실패 행(INIT, FAILED 등)은 릴레이가 재발행해야 하므로 정리하면 안 됩니다.
+ * 처리 시각 이전에 생성되었을 것이므로 created_at 조건은 인덱스를 타기 위한 보조 조건입니다.
+ * <pre>
+ * -- purge
+ * DELETE FROM outbox
+ *  WHERE id IN (SELECT id FROM outbox
+ *                WHERE status IN ('PROCESSED', 'SUCCESS')
+ *                  AND processed_at &lt; :processedBefore
+ *                  AND created_at &lt; :createdBefore
+ *                ORDER BY id
+ *                LIMIT :limit
+ *                FOR UPDATE SKIP LOCKED);
+ *
+ * -- archive (하나의 트랜잭션에서 실행)
+ * INSERT INTO outbox_archive SELECT * FROM outbox WHERE id IN (:ids);
+ * DELETE FROM outbox WHERE id IN (:ids);
+ * </pre>
+ * 처리 시각(processed_at) 컬럼이 없으면 created_at 조건만 사용할 수 있으며, 이 경우 생성 후 늦게 처리된 행은 처리 후 보존 기간보다 일찍 정리됩니다.
+ * 상태와 관계없이 행을 지우게 되므로 created_at 파티션을 통째로 삭제(또는 분리)하는 방식으로 구현하면 안 됩니다.
+ *
+ * @param createdBefore   이 시각 이전에 생성된 행만 정리 (processedBefore와 같은 시각)
+ * @param processedBefore 이 시각 이전에 처리 완료된 행만 정리
+ * @param limit           한 번에 정리할 최대 행 수
+ */
+public record OutboxRetentionRequest(
+        Instant createdBefore,
+        Instant processedBefore,
+        int limit
+) {
+}
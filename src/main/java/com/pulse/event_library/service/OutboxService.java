@@ -2,6 +2,9 @@ package com.pulse.event_library.service;
 
 import com.pulse.event_library.event.OutboxEvent;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * OutboxService의 인터페이스를 정의
  */
@@ -10,16 +13,63 @@ public interface OutboxService {
     // OutboxEvent를 저장
     void saveOutboxEvent(OutboxEvent event);
 
+    // 한 트랜잭션에서 발행된 OutboxEvent들을 한 번에 저장 (JDBC batch, multi-row insert 등으로 재정의 권장)
+    default void saveOutboxEvents(List<OutboxEvent> events) {
+        events.forEach(this::saveOutboxEvent);
+    }
+
     // OutboxEvent를 처리 완료로 표시
     void markOutboxEventProcessed(OutboxEvent event);
 
+    // 여러 OutboxEvent를 한 번에 처리 완료로 표시 (트랜잭션 발행 모드의 커밋 후 / 상태 변경 쓰기 지연 사용 시 호출, bulk update로 재정의 권장, 처리 성공 상태의 행은 덮어쓰지 않아야 함)
+    default void markOutboxEventsProcessed(List<OutboxEvent> events) {
+        events.forEach(this::markOutboxEventProcessed);
+    }
+
     // OutboxEvent를 처리 성공으로 표시
     void markOutboxEventSuccess(OutboxEvent event);
 
     // OutboxEvent를 처리 실패로 표시
     void markOutboxEventFailed(OutboxEvent event);
 
-    // OutboxEvent의 Kafka 토픽을 반환
+    // 여러 OutboxEvent를 한 번에 처리 실패로 표시 (상태 변경 쓰기 지연 사용 시 호출, bulk update로 재정의 권장, 처리 성공 상태의 행은 덮어쓰지 않아야 함)
+    default void markOutboxEventsFailed(List<OutboxEvent> events) {
+        events.forEach(this::markOutboxEventFailed);
+    }
+
+    // OutboxEvent의 Kafka 토픽을 반환 (pulse.outbox.routing.topics나 @OutboxTopic으로 찾지 못한 경우에만 호출되며, 결과는 이벤트 타입별로 캐시된다.)
     String getKafkaTopic(OutboxEvent event);
 
+    // 재발행 대상(미처리/실패) OutboxEvent를 선점하여 반환 (OutboxRelay 사용 시 구현 필요)
+    default List<OutboxEvent> claimOutboxEvents(OutboxClaimRequest request) {
+        throw new UnsupportedOperationException("claimOutboxEvents must be implemented to use the outbox relay");
+    }
+
+    // 재발행을 maxAttempts번 시도하고도 미처리/실패 상태이며 선점이 만료된 OutboxEvent를 종료 상태(ex. DEAD)로 변경하고 변경한 행 수를 반환
+    // ex. UPDATE outbox SET status = 'DEAD' WHERE status IN ('INIT', 'FAILED') AND attempts >= :maxAttempts AND claimed_until < now()
+    // (구현하지 않으면 해당 행은 선점되지 않은 채로 미처리/실패 상태로 남는다.)
+    default long parkOutboxEvents(int maxAttempts) {
+        throw new UnsupportedOperationException("parkOutboxEvents must be implemented to park exhausted outbox events");
+    }
+
+    // 가장 오래된 미발행(미처리/실패) OutboxEvent의 생성 시각, 없으면 null (pulse.outbox.oldest.unpublished.age 지표 사용 시 구현 필요)
+    default Instant findOldestUnpublishedCreatedAt() {
+        throw new UnsupportedOperationException("findOldestUnpublishedCreatedAt must be implemented to report the oldest unpublished age");
+    }
+
+    // 보존 기간이 지난 완료(처리 완료/처리 성공) OutboxEvent를 최대 limit건 삭제하고 삭제한 행 수를 반환 (pulse.outbox.retention.mode=PURGE 사용 시 구현 필요)
+    default long purgeOutboxEvents(OutboxRetentionRequest request) {
+        throw new UnsupportedOperationException("purgeOutboxEvents must be implemented to purge the outbox table");
+    }
+
+    // 보존 기간이 지난 완료(처리 완료/처리 성공) OutboxEvent를 최대 limit건 보관 테이블로 옮기고 옮긴 행 수를 반환 (pulse.outbox.retention.mode=ARCHIVE 사용 시 구현 필요)
+    default long archiveOutboxEvents(OutboxRetentionRequest request) {
+        throw new UnsupportedOperationException("archiveOutboxEvents must be implemented to archive the outbox table");
+    }
+
+    // Outbox 테이블의 행 수 (통계 기반의 추정치도 가능, 알 수 없으면 -1, pulse.outbox.table.rows 지표 사용 시 구현 필요)
+    default long countOutboxEvents() {
+        return -1L;
+    }
+
 }
\ No newline at end of file
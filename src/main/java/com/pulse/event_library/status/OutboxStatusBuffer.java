@@ -0,0 +1,284 @@
+package com.pulse.event_library.status;
+
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.service.OutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 전송 결과에 따른 Outbox 이벤트의 상태 변경(처리 완료 / 실패)을 모아두었다가 한 번에 반영하는 write-behind 버퍼입니다.
+ *
+ * 같은 outbox id의 상태 변경은 마지막 상태만 남기며, flushSize건이 모이거나 flushInterval이 지나면
+ * OutboxService.markOutboxEventsProcessed / markOutboxEventsFailed로 상태별로 묶어서 반영합니다.
+ * 반영에 실패한 상태 변경은 이후에 들어온 상태 변경이 없는 경우에만 다시 버퍼에 넣어 다음 주기에 반영합니다.
+ *
+ * 버퍼가 maxPending건을 넘으면 호출한 스레드에서 바로 반영하고, 반영에 실패하면 상태 변경을 버립니다.
+ * (상태가 바뀌지 않은 행은 OutboxRelay가 재발행하므로 이벤트가 유실되지는 않습니다.)
+ * 종료 시에는 남은 상태 변경을 모두 반영하며, 종료 이후의 상태 변경은 버퍼를 거치지 않고 바로 반영합니다.
+ */
+public class OutboxStatusBuffer implements SmartLifecycle, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxStatusBuffer.class);
+    private static final String MODE = "write_behind";
+
+    private final OutboxService outboxService;
+    private final OutboxMetrics outboxMetrics;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final int maxPending;
+    private final ThreadFactory threadFactory;
+
+    // outbox id별 마지막 상태 변경 (삽입 순서 유지)
+    private Map<Long, Transition> pending = new LinkedHashMap<>();
+    private final Object lock = new Object();
+    // 한 번에 하나의 스레드만 반영하도록 하기 위한 잠금 (반영 중에도 버퍼에는 계속 추가할 수 있습니다.)
+    private final Object flushLock = new Object();
+
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile boolean running;
+    private Thread flusher;
+
+    /**
+     * @param outboxService Outbox 서비스
+     * @param outboxMetrics Outbox 지표
+     * @param flushSize     반영을 시작하는 버퍼 크기
+     * @param flushInterval 반영 주기
+     * @param maxPending    버퍼의 최대 크기 (초과하면 호출한 스레드에서 반영)
+     * @param threadFactory 반영 스레드를 생성할 ThreadFactory
+     */
+    public OutboxStatusBuffer(OutboxService outboxService,
+                              OutboxMetrics outboxMetrics,
+                              int flushSize,
+                              Duration flushInterval,
+                              int maxPending,
+                              ThreadFactory threadFactory) {
+        this.outboxService = outboxService;
+        this.outboxMetrics = outboxMetrics;
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxPending = Math.max(flushSize, maxPending);
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Outbox 이벤트를 처리 완료 상태로 변경합니다.
+     */
+    public void markProcessed(OutboxEvent event) {
+        add(event, Status.PROCESSED);
+    }
+
+    /**
+     * Outbox 이벤트를 실패 상태로 변경합니다.
+     */
+    public void markFailed(OutboxEvent event) {
+        add(event, Status.FAILED);
+    }
+
+    private void add(OutboxEvent event, Status status) {
+        // 1. 실행 중이 아니거나 id가 없으면 버퍼를 거치지 않고 바로 반영합니다.
+        if (!running || event.getId() == null) {
+            writeThrough(event, status);
+            return;
+        }
+
+        // 2. 같은 id의 이전 상태 변경은 덮어씁니다.
+        int size;
+        synchronized (lock) {
+            if (pending.put(event.getId(), new Transition(event, status)) != null) {
+                coalescedCount.increment();
+            }
+            size = pending.size();
+        }
+
+        // 3. flushSize건이 모이면 반영 스레드를 깨우고, maxPending건을 넘으면 호출한 스레드에서 반영합니다.
+        if (size >= maxPending) {
+            flush(false);
+        } else if (size >= flushSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = threadFactory.newThread(this::flushLoop);
+        flusher.start();
+    }
+
+    /**
+     * 반영 스레드를 종료하고 남은 상태 변경을 모두 반영합니다.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush(false);
+    }
+
+    /**
+     * 종료 단계에서 다른 빈(발행 서비스의 완료 처리 등)이 남긴 상태 변경까지 반영합니다.
+     */
+    @Override
+    public void destroy() {
+        flush(false);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 상태 변경을 만드는 구성 요소(디스패처, 릴레이, 리스너 컨테이너 등)보다 먼저 시작하고 나중에 종료합니다.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    // 반영을 기다리는 상태 변경 수
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    // 반영한 상태 변경 수
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    // 같은 id의 이후 상태 변경으로 덮어써서 반영하지 않은 상태 변경 수
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    // 버퍼가 가득 찬 상태에서 반영에 실패하여 버린 상태 변경 수
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private void flushLoop() {
+        while (running) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            try {
+                flush(true);
+            } catch (Exception e) {
+                log.error("Outbox status flush failed", e);
+            }
+        }
+    }
+
+    /**
+     * 버퍼를 비우고 상태별로 묶어서 반영합니다.
+     *
+     * @param requeue 반영에 실패한 상태 변경을 다시 버퍼에 넣을지 여부 (false이면 버림)
+     */
+    private void flush(boolean requeue) {
+        synchronized (flushLock) {
+            // 1. 버퍼를 새 버퍼로 교체합니다.
+            Map<Long, Transition> batch;
+            synchronized (lock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+
+            // 2. 상태별로 나누어 반영합니다.
+            List<OutboxEvent> processed = new ArrayList<>(batch.size());
+            List<OutboxEvent> failed = new ArrayList<>();
+            for (Transition transition : batch.values()) {
+                (transition.status() == Status.PROCESSED ? processed : failed).add(transition.event());
+            }
+            if (!processed.isEmpty() && !write(processed, Status.PROCESSED)) {
+                recover(processed, Status.PROCESSED, requeue);
+            }
+            if (!failed.isEmpty() && !write(failed, Status.FAILED)) {
+                recover(failed, Status.FAILED, requeue);
+            }
+        }
+    }
+
+    private boolean write(List<OutboxEvent> events, Status status) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            if (status == Status.PROCESSED) {
+                outboxService.markOutboxEventsProcessed(events);
+            } else {
+                outboxService.markOutboxEventsFailed(events);
+            }
+            flushedCount.add(events.size());
+            success = true;
+        } catch (Exception e) {
+            log.warn("Failed to mark {} outbox events {}: {}", events.size(), status, e.getMessage());
+        } finally {
+            outboxMetrics.recordStatusUpdate(MODE, System.nanoTime() - startNanos, events.size(), success);
+        }
+        return success;
+    }
+
+    /**
+     * 반영에 실패한 상태 변경을 다시 버퍼에 넣습니다.
+     * 그 사이에 같은 id의 상태 변경이 들어왔으면 새 상태를 유지하며, 버퍼가 가득 찼거나 종료 중이면 버립니다.
+     */
+    private void recover(List<OutboxEvent> events, Status status, boolean requeue) {
+        int dropped = 0;
+        synchronized (lock) {
+            for (OutboxEvent event : events) {
+                if (requeue && running && pending.size() < maxPending) {
+                    pending.putIfAbsent(event.getId(), new Transition(event, status));
+                } else {
+                    dropped++;
+                }
+            }
+        }
+        if (dropped > 0) {
+            droppedCount.add(dropped);
+            log.error("Dropped {} outbox status updates ({}), the relay will republish the affected events", dropped, status);
+        }
+    }
+
+    private void writeThrough(OutboxEvent event, Status status) {
+        if (status == Status.PROCESSED) {
+            outboxService.markOutboxEventProcessed(event);
+        } else {
+            outboxService.markOutboxEventFailed(event);
+        }
+    }
+
+    private enum Status {
+        PROCESSED,
+        FAILED
+    }
+
+    private record Transition(OutboxEvent event, Status status) {
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.pulse.event_library.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outbox 파이프라인의 Span 생성과 트레이스 컨텍스트 전파를 담당합니다.
+ * Tracer와 Propagator는 생성 시 한 번만 가져와 재사용하며, pulse.outbox.tracing.mode에 따라 생성하는 Span을 줄입니다.
+ *
+ * - FULL: 이벤트마다 저장 / 발행 / 전송 시도별 Span을 생성합니다. (전송 Span은 브로커 응답을 받을 때 종료)
+ * - LIGHT: 이벤트마다 발행 Span 하나만 생성하고, 저장은 배치 단위 Span만 생성합니다.
+ *          발행 Span의 컨텍스트를 한 번만 헤더로 인코딩하여 재시도마다 그대로 사용합니다.
+ * - OFF: Span을 생성하지 않고 헤더도 주입하지 않습니다.
+ *
+ * 샘플링 비율(sampleRatio)에 포함되지 않은 이벤트는 Span을 생성하지 않으며(Span.getInvalid()),
+ * 이 경우에도 호출한 쪽의 트레이스 컨텍스트는 그대로 전파되어 다운스트림의 트레이스가 끊기지 않습니다.
+ */
+public class OutboxTracing {
+
+    // 발행 시 인코딩해둔 트레이스 헤더를 담는 컨텍스트 키
+    private static final ContextKey<List<Header>> ENCODED_HEADERS = ContextKey.named("pulse-outbox-trace-headers");
+
+    // Kafka 헤더에 트레이스 컨텍스트를 주입하기 위한 TextMapSetter
+    private static final TextMapSetter<Headers> HEADERS_SETTER =
+            (carrier, key, value) -> carrier.add(key, value.getBytes(StandardCharsets.UTF_8));
+
+    // 트레이스 컨텍스트를 미리 인코딩해두기 위한 TextMapSetter
+    private static final TextMapSetter<List<Header>> LIST_SETTER =
+            (carrier, key, value) -> carrier.add(new RecordHeader(key, value.getBytes(StandardCharsets.UTF_8)));
+
+    private final Mode mode;
+    private final double sampleRatio;
+    private final Tracer listenerTracer;
+    private final Tracer producerTracer;
+    private final TextMapPropagator propagator;
+
+    public OutboxTracing(OpenTelemetry openTelemetry, Mode mode, double sampleRatio) {
+        this.mode = mode;
+        this.sampleRatio = sampleRatio;
+        this.listenerTracer = openTelemetry.getTracer("outbox-event-listener");
+        this.producerTracer = openTelemetry.getTracer("kafka-producer");
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    /**
+     * 이벤트 단위의 저장 Span을 시작합니다. (FULL 모드에서만 생성)
+     */
+    public Span startSaveSpan(String name) {
+        return mode == Mode.FULL && sampled() ? listenerTracer.spanBuilder(name).startSpan() : Span.getInvalid();
+    }
+
+    /**
+     * 여러 이벤트를 한 번에 처리하는 배치 Span을 시작합니다. (FULL, LIGHT 모드에서 생성)
+     *
+     * @param name Span 이름
+     * @param size 배치에 포함된 이벤트 수
+     */
+    public Span startBatchSpan(String name, int size) {
+        return mode != Mode.OFF && sampled()
+                ? listenerTracer.spanBuilder(name).setAttribute("outbox.batch.size", size).startSpan()
+                : Span.getInvalid();
+    }
+
+    /**
+     * 이벤트 단위의 발행 Span을 시작합니다. (FULL, LIGHT 모드에서 생성)
+     */
+    public Span startPublishSpan(String name) {
+        return mode != Mode.OFF && sampled() ? listenerTracer.spanBuilder(name).startSpan() : Span.getInvalid();
+    }
+
+    /**
+     * 전송 시도 단위의 Span을 시작합니다.
+     * FULL 모드이고 부모(발행) Span이 기록 중인 경우에만 생성합니다. (샘플링 결과를 부모와 맞추기 위함)
+     *
+     * @param parent 부모 컨텍스트
+     */
+    public Span startProduceSpan(Context parent) {
+        if (mode != Mode.FULL || !Span.fromContext(parent).isRecording()) {
+            return Span.getInvalid();
+        }
+        return producerTracer.spanBuilder("[kafka] : message-produce")
+                .setParent(parent)
+                .setSpanKind(SpanKind.PRODUCER)
+                .startSpan();
+    }
+
+    /**
+     * Span을 현재 컨텍스트에 설정합니다.
+     * 생성하지 않은 Span(Span.getInvalid())은 설정하지 않으므로, 호출한 쪽의 트레이스 컨텍스트가 그대로 유지됩니다.
+     */
+    public Scope makeCurrent(Span span) {
+        return span.getSpanContext().isValid() ? span.makeCurrent() : Scope.noop();
+    }
+
+    /**
+     * 컨텍스트의 트레이스 헤더를 미리 인코딩하여 컨텍스트에 담습니다.
+     * 전송 시도별 Span을 만들지 않는 모드에서는 재시도마다 같은 헤더를 사용하므로, 인코딩을 이벤트당 한 번으로 줄입니다.
+     *
+     * @param context 발행 컨텍스트
+     * @return 인코딩된 헤더를 담은 컨텍스트
+     */
+    public Context withEncodedHeaders(Context context) {
+        if (mode != Mode.LIGHT) {
+            return context;
+        }
+        List<Header> headers = new ArrayList<>(2);
+        propagator.inject(context, headers, LIST_SETTER);
+        return context.with(ENCODED_HEADERS, headers);
+    }
+
+    /**
+     * 트레이스 컨텍스트를 Kafka 레코드 헤더에 주입합니다.
+     * 미리 인코딩한 헤더가 있고 전송 Span이 없으면 인코딩하지 않고 그대로 추가합니다.
+     *
+     * @param context     발행 컨텍스트
+     * @param produceSpan 전송 Span (생성하지 않은 경우 Span.getInvalid())
+     * @param headers     레코드 헤더
+     */
+    public void inject(Context context, Span produceSpan, Headers headers) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        // 1. 전송 Span이 있으면 전송 Span의 컨텍스트를 주입합니다.
+        if (produceSpan.getSpanContext().isValid()) {
+            propagator.inject(produceSpan.storeInContext(context), headers, HEADERS_SETTER);
+            return;
+        }
+
+        // 2. 미리 인코딩한 헤더가 있으면 그대로 추가하고, 없으면 발행 컨텍스트를 주입합니다.
+        List<Header> encoded = context.get(ENCODED_HEADERS);
+        if (encoded == null) {
+            propagator.inject(context, headers, HEADERS_SETTER);
+            return;
+        }
+        for (Header header : encoded) {
+            headers.add(header);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    private boolean sampled() {
+        return sampleRatio >= 1.0 || (sampleRatio > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRatio);
+    }
+
+    public enum Mode {
+        FULL,
+        LIGHT,
+        OFF
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.pulse.event_library.transaction;
+
+import com.pulse.event_library.event.OutboxEvent;
+import com.pulse.event_library.metrics.OutboxMetrics;
+import com.pulse.event_library.service.OutboxService;
+import com.pulse.event_library.tracing.OutboxTracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 트랜잭션에서 발행된 Outbox 이벤트를 모아두었다가 커밋 직전에 한 번에 저장합니다.
+ * 이벤트마다 INSERT를 수행하는 대신 OutboxService.saveOutboxEvents로 묶어서 저장하여 DB 왕복 횟수를 줄입니다.
+ */
+public class OutboxSaveBatcher {
+
+    private final OutboxService outboxService;
+    private final int maxBatchSize;
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxTracing outboxTracing;
+
+    public OutboxSaveBatcher(OutboxService outboxService, int maxBatchSize, OutboxMetrics outboxMetrics, OutboxTracing outboxTracing) {
+        this.outboxService = outboxService;
+        this.maxBatchSize = maxBatchSize;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxTracing = outboxTracing;
+    }
+
+    /**
+     * 현재 트랜잭션의 버퍼에 Outbox 이벤트를 추가합니다.
+     * 트랜잭션에서 처음 수집되는 이벤트라면 커밋 직전에 버퍼를 저장하는 동기화 객체를 등록합니다.
+     *
+     * @param event 저장할 Outbox 이벤트
+     * @return 수집 여부 (활성화된 트랜잭션이 없으면 false)
+     */
+    public boolean collect(OutboxEvent event) {
+        // 1. @TransactionalEventListener와 동일하게 실제 트랜잭션이 있을 때만 수집합니다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+
+        // 2. 현재 트랜잭션에 바인딩된 버퍼를 찾고, 없으면 새로 등록합니다.
+        BatchSynchronization synchronization = (BatchSynchronization) TransactionSynchronizationManager.getResource(this);
+        if (synchronization == null) {
+            synchronization = new BatchSynchronization();
+            TransactionSynchronizationManager.bindResource(this, synchronization);
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        }
+
+        // 3. 이미 버퍼를 저장한 뒤(커밋 단계)에 발행된 이벤트는 바로 저장합니다.
+        if (synchronization.flushed) {
+            outboxService.saveOutboxEvent(event);
+        } else {
+            synchronization.events.add(event);
+        }
+        return true;
+    }
+
+    private void saveAll(List<OutboxEvent> events) {
+        // 1. 배치 단위의 Span을 생성합니다.
+        Span span = outboxTracing.startBatchSpan("[spring-event] before-commit (outbox-table batch save)", events.size());
+
+        // 2. 최대 배치 크기 단위로 나누어 저장합니다.
+        try (Scope scope = outboxTracing.makeCurrent(span)) {
+            for (int from = 0; from < events.size(); from += maxBatchSize) {
+                int to = Math.min(from + maxBatchSize, events.size());
+                long startNanos = System.nanoTime();
+                outboxService.saveOutboxEvents(events.subList(from, to));
+                outboxMetrics.recordSave(System.nanoTime() - startNanos, to - from);
+            }
+        } catch (Exception e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * 트랜잭션 단위의 이벤트 버퍼입니다.
+     * 커밋 직전(beforeCommit)에 버퍼를 저장하며, 저장 중 예외가 발생하면 트랜잭션이 롤백됩니다.
+     * 트랜잭션이 중단(REQUIRES_NEW 등)되면 리소스 바인딩도 함께 해제/복구합니다.
+     */
+    private class BatchSynchronization implements TransactionSynchronization {
+
+        private final List<OutboxEvent> events = new ArrayList<>();
+        private boolean flushed;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxSaveBatcher.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(OutboxSaveBatcher.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flushed = true;
+            if (!events.isEmpty()) {
+                saveAll(events);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxSaveBatcher.this);
+        }
+
+    }
+
+}